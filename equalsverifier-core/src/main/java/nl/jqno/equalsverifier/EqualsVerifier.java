@@ -153,7 +153,8 @@ public final class EqualsVerifier {
         PackageScanOptions opts = PackageScanOptions.process(options);
         List<Class<?>> classes = PackageScanner.getClassesIn(packageName, opts);
         Validations.validatePackageContainsClasses(packageName, classes);
-        return new MultipleTypeEqualsVerifierApi(classes, new ConfiguredEqualsVerifier());
+        return new MultipleTypeEqualsVerifierApi(PackageScanner.selectShard(classes, opts),
+                new ConfiguredEqualsVerifier());
     }
 
     /**
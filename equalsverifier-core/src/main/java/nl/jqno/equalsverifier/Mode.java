@@ -1,5 +1,7 @@
 package nl.jqno.equalsverifier;
 
+import java.nio.file.Path;
+
 import nl.jqno.equalsverifier.internal.ModeInstance;
 
 /**
@@ -7,7 +9,7 @@ import nl.jqno.equalsverifier.internal.ModeInstance;
  *
  * @since 4.0
  */
-public sealed interface Mode permits ModeInstance {
+public sealed interface Mode permits ModeInstance, ModeInstance.PersistentCache {
 
     /**
      * Signals that EqualsVerifier should not use Mockito, even if it's available on the classpath or modulepath.
@@ -19,4 +21,42 @@ public sealed interface Mode permits ModeInstance {
     public static Mode skipMockito() {
         return ModeInstance.SKIP_MOCKITO;
     }
+
+    /**
+     * Signals that EqualsVerifier should run the checks for the individual fields of a class concurrently. This can
+     * speed up the verification of classes with many fields.
+     *
+     * <p>
+     * The error message is the same as when the fields are checked one at a time. Note that the class's
+     * {@code equals} and {@code hashCode} methods will be called from several threads at once.
+     *
+     * @return The parallelFieldChecks mode.
+     *
+     * @since 4.4
+     */
+    public static Mode parallelFieldChecks() {
+        return ModeInstance.PARALLEL_FIELD_CHECKS;
+    }
+
+    /**
+     * Signals that EqualsVerifier should store what it learns from a class's bytecode in the given directory, so that
+     * later runs don't have to learn it again. For instance, {@code Path.of("target", "equalsverifier-cache")}.
+     *
+     * <p>
+     * This covers the annotations that EqualsVerifier finds on a class, its fields, its superclasses, its outer classes
+     * and its package, and the Kotlin facts that it derives from a class. An entry is only used if the class files it
+     * was derived from, and the version of EqualsVerifier, are unchanged; otherwise, it's derived again and replaced.
+     * Entries are never removed, so it's best to put the directory somewhere that a clean build removes.
+     *
+     * <p>
+     * If the directory can't be read or written, EqualsVerifier silently works without it.
+     *
+     * @param directory The directory in which to store the cache. It's created if it doesn't exist.
+     * @return The persistentCache mode.
+     *
+     * @since 4.4
+     */
+    public static Mode persistentCache(Path directory) {
+        return new ModeInstance.PersistentCache(directory);
+    }
 }
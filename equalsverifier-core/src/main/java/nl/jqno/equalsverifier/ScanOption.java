@@ -11,7 +11,7 @@ import nl.jqno.equalsverifier.internal.reflection.PackageScanOptions;
  * @since 3.19
  */
 public sealed interface ScanOption permits PackageScanOptions.O, PackageScanOptions.MustExtend,
-        PackageScanOptions.ExceptClasses, PackageScanOptions.ExclusionPredicate {
+        PackageScanOptions.ExceptClasses, PackageScanOptions.ExclusionPredicate, PackageScanOptions.Shard {
 
     /**
      * Signals that not just the given package should be scanned, but also all of its sub-packages.
@@ -71,4 +71,23 @@ public sealed interface ScanOption permits PackageScanOptions.O, PackageScanOpti
     public static ScanOption except(Predicate<Class<?>> exclusionPredicate) {
         return new PackageScanOptions.ExclusionPredicate(exclusionPredicate);
     }
+
+    /**
+     * Verifies only one part of the classes in the package, so verification can be split over several processes or
+     * machines; for instance, over the agents of a CI build.
+     *
+     * <p>
+     * The classes are divided over {@code count} shards by a stable hash of their fully qualified name, so a class
+     * always ends up in the same shard, on every machine and in every run. Each class is in exactly one shard. A shard
+     * may be empty; in that case, verification trivially succeeds.
+     *
+     * @param index The zero-based index of the shard to verify. Must be at least 0 and less than {@code count}.
+     * @param count The total number of shards. Must be at least 1.
+     * @return The 'shard' flag with the associated index and count.
+     *
+     * @since 4.4
+     */
+    public static ScanOption shard(int index, int count) {
+        return new PackageScanOptions.Shard(index, count);
+    }
 }
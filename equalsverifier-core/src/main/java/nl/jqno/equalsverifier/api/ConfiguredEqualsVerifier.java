@@ -10,6 +10,8 @@ import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.PrefabValuesApi;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanOptions;
 import nl.jqno.equalsverifier.internal.reflection.PackageScanner;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SharedAnnotationCaches;
 import nl.jqno.equalsverifier.internal.util.FieldToPrefabValues;
 import nl.jqno.equalsverifier.internal.util.ListBuilders;
 import nl.jqno.equalsverifier.internal.util.Validations;
@@ -20,6 +22,11 @@ import org.objenesis.ObjenesisStd;
 /**
  * Keeps a re-usable configuration for EqualsVerifier.
  *
+ * <p>
+ * A configured EqualsVerifier is safe to share across threads. For instance, it can be kept in a static field and
+ * used from tests that run in parallel. Each call to {@link #forClass(Class)} takes a snapshot of the configuration at
+ * that moment, so changing the configuration afterwards does not affect verifications that have already been started.
+ *
  * @since 3.0
  */
 public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
@@ -30,6 +37,8 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     private boolean usingGetClass;
     private Function<String, String> fieldnameToGetter;
     private final Objenesis objenesis = new ObjenesisStd();
+    private TypeCache typeCache = new TypeCache();
+    private final SharedAnnotationCaches annotationCaches = new SharedAnnotationCaches();
 
     /**
      * Constructor.
@@ -62,7 +71,7 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
      * @since 3.2
      */
     @CheckReturnValue
-    public ConfiguredEqualsVerifier copy() {
+    public synchronized ConfiguredEqualsVerifier copy() {
         return new ConfiguredEqualsVerifier(EnumSet.copyOf(warningsToSuppress),
                 new HashSet<>(modesToSet),
                 userPrefabs.copy(),
@@ -73,68 +82,80 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
     /** {@inheritDoc} */
     @Override
     @CheckReturnValue
-    public ConfiguredEqualsVerifier suppress(Warning... warnings) {
+    public synchronized ConfiguredEqualsVerifier suppress(Warning... warnings) {
         Collections.addAll(warningsToSuppress, warnings);
         return this;
     }
 
     /** {@inheritDoc}} */
     @Override
-    public ConfiguredEqualsVerifier set(Mode... modes) {
+    public synchronized ConfiguredEqualsVerifier set(Mode... modes) {
         Collections.addAll(modesToSet, modes);
+        invalidateTypeCache();
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     @CheckReturnValue
-    public <S> ConfiguredEqualsVerifier withPrefabValues(Class<S> otherType, S red, S blue) {
+    public synchronized <S> ConfiguredEqualsVerifier withPrefabValues(Class<S> otherType, S red, S blue) {
         PrefabValuesApi.addPrefabValues(userPrefabs, objenesis, otherType, red, blue);
+        invalidateTypeCache();
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     @CheckReturnValue
-    public <S> ConfiguredEqualsVerifier withResettablePrefabValues(
+    public synchronized <S> ConfiguredEqualsVerifier withResettablePrefabValues(
             Class<S> otherType,
             Supplier<S> red,
             Supplier<S> blue) {
         PrefabValuesApi.addResettablePrefabValues(userPrefabs, objenesis, otherType, red, blue);
+        invalidateTypeCache();
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     @CheckReturnValue
-    public <S> ConfiguredEqualsVerifier withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
+    public synchronized <S> ConfiguredEqualsVerifier withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(userPrefabs, otherType, factory);
+        invalidateTypeCache();
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     @CheckReturnValue
-    public <S> ConfiguredEqualsVerifier withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
+    public synchronized <S> ConfiguredEqualsVerifier withGenericPrefabValues(
+            Class<S> otherType,
+            Func2<?, ?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(userPrefabs, otherType, factory);
+        invalidateTypeCache();
         return this;
     }
 
     /** {@inheritDoc} */
     @Override
     @CheckReturnValue
-    public ConfiguredEqualsVerifier usingGetClass() {
+    public synchronized ConfiguredEqualsVerifier usingGetClass() {
         usingGetClass = true;
         return this;
     }
 
     @Override
     @CheckReturnValue
-    public ConfiguredEqualsVerifier withFieldnameToGetterConverter(Function<String, String> converter) {
+    public synchronized ConfiguredEqualsVerifier withFieldnameToGetterConverter(Function<String, String> converter) {
         this.fieldnameToGetter = converter;
         return this;
     }
 
+    // Verifications that are already running keep using the old cache, which is consistent with their configuration.
+    private void invalidateTypeCache() {
+        typeCache = new TypeCache();
+    }
+
     /**
      * Factory method. For general use.
      *
@@ -145,11 +166,13 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
      * @since 3.0
      */
     @CheckReturnValue
-    public <T> SingleTypeEqualsVerifierApi<T> forClass(Class<T> type) {
+    public synchronized <T> SingleTypeEqualsVerifierApi<T> forClass(Class<T> type) {
         return new SingleTypeEqualsVerifierApi<>(type,
                 EnumSet.copyOf(warningsToSuppress),
                 new HashSet<>(modesToSet),
                 userPrefabs.copy(),
+                typeCache,
+                annotationCaches,
                 objenesis,
                 usingGetClass,
                 fieldnameToGetter);
@@ -222,6 +245,6 @@ public final class ConfiguredEqualsVerifier implements EqualsVerifierApi<Void> {
         PackageScanOptions opts = PackageScanOptions.process(options);
         List<Class<?>> classes = PackageScanner.getClassesIn(packageName, opts);
         Validations.validatePackageContainsClasses(packageName, classes);
-        return new MultipleTypeEqualsVerifierApi(classes, this);
+        return new MultipleTypeEqualsVerifierApi(PackageScanner.selectShard(classes, opts), this);
     }
 }
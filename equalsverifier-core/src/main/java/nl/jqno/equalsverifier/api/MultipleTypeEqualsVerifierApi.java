@@ -2,6 +2,9 @@ package nl.jqno.equalsverifier.api;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -11,6 +14,7 @@ import nl.jqno.equalsverifier.Func.Func1;
 import nl.jqno.equalsverifier.Func.Func2;
 import nl.jqno.equalsverifier.internal.util.ErrorMessage;
 import nl.jqno.equalsverifier.internal.util.Formatter;
+import nl.jqno.equalsverifier.internal.util.Validations;
 
 /**
  * Helps to construct an {@link EqualsVerifier} test for several types at once with a fluent API.
@@ -21,6 +25,7 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
 
     private final List<Class<?>> types;
     private final ConfiguredEqualsVerifier ev;
+    private Executor parallelExecutor = null;
 
     /**
      * Constructor.
@@ -109,6 +114,52 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
         return this;
     }
 
+    /**
+     * Signals that the types should be verified in parallel, using the common {@link ForkJoinPool}.
+     *
+     * <p>
+     * The reports are still returned in the same order as the types were given, and the message of a failing
+     * {@link #verify()} is the same as when the types are verified one at a time.
+     *
+     * <p>
+     * Note that types that share mutable static state, for instance through a common superclass, should not be
+     * verified in parallel, because EqualsVerifier temporarily modifies static fields while it verifies a type.
+     *
+     * @return {@code this}, for easy method chaining.
+     * @see #withExecutor(Executor)
+     *
+     * @since 4.4
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi inParallel() {
+        return withExecutor(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Signals that the types should be verified in parallel, using the given {@link Executor}. This can be any
+     * executor, for example a {@link ForkJoinPool} or an executor that starts a virtual thread for each task.
+     *
+     * <p>
+     * The reports are still returned in the same order as the types were given, and the message of a failing
+     * {@link #verify()} is the same as when the types are verified one at a time. EqualsVerifier does not shut down
+     * the executor when it's done.
+     *
+     * <p>
+     * Note that types that share mutable static state, for instance through a common superclass, should not be
+     * verified in parallel, because EqualsVerifier temporarily modifies static fields while it verifies a type.
+     *
+     * @param executor The executor that verifies the types.
+     * @return {@code this}, for easy method chaining.
+     *
+     * @since 4.4
+     */
+    @CheckReturnValue
+    public MultipleTypeEqualsVerifierApi withExecutor(Executor executor) {
+        Validations.validateNotNull(executor, "executor is null.");
+        this.parallelExecutor = executor;
+        return this;
+    }
+
     /**
      * Performs the verification of the contracts for {@code equals} and {@code hashCode} and throws an
      * {@link AssertionError} if there is a problem.
@@ -145,6 +196,17 @@ public class MultipleTypeEqualsVerifierApi implements EqualsVerifierApi<Void> {
      * @since 3.0
      */
     public List<EqualsVerifierReport> report() {
-        return types.stream().map(t -> ev.forClass(t).report(false)).toList();
+        if (parallelExecutor == null) {
+            return types.stream().map(t -> ev.forClass(t).report(false)).toList();
+        }
+
+        // The APIs are created up front, so the shared configuration is only read from this thread.
+        List<SingleTypeEqualsVerifierApi<?>> apis =
+                types.stream().<SingleTypeEqualsVerifierApi<?>>map(ev::forClass).toList();
+        List<CompletableFuture<EqualsVerifierReport>> futures = apis
+                .stream()
+                .map(api -> CompletableFuture.supplyAsync(() -> api.report(false), parallelExecutor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
     }
 }
@@ -11,6 +11,8 @@ import nl.jqno.equalsverifier.internal.PrefabValuesApi;
 import nl.jqno.equalsverifier.internal.checkers.*;
 import nl.jqno.equalsverifier.internal.exceptions.MessagingException;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SharedAnnotationCaches;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinProbe;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
 import nl.jqno.equalsverifier.internal.util.*;
@@ -38,6 +40,8 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     private Class<? extends T> redefinedSubclass = null;
     private UserPrefabValueCaches userPrefabs = new UserPrefabValueCaches();
     private FieldCache fieldCache = new FieldCache();
+    private TypeCache typeCache = new TypeCache();
+    private SharedAnnotationCaches annotationCaches = new SharedAnnotationCaches();
     private CachedHashCodeInitializer<T> cachedHashCodeInitializer = CachedHashCodeInitializer.passthrough();
     private Function<String, String> fieldnameToGetter = null;
     private Set<String> allExcludedFields = new HashSet<>();
@@ -78,6 +82,8 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
      * @param warningsToSuppress A list of warnings to suppress in {@code EqualsVerifier}.
      * @param modes              A set of modes in which {@code EqualsVerifier} should operate.
      * @param userPrefabs        Prefab values provided by the user.
+     * @param typeCache          Generated values that are shared with other verifications with the same configuration.
+     * @param annotationCaches   Annotation caches that are shared with other verifications.
      * @param objenesis          To instantiate non-record classes.
      * @param usingGetClass      Whether {@code getClass} is used in the implementation of the {@code equals} method,
      *                               instead of an {@code instanceof} check.
@@ -89,6 +95,8 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             EnumSet<Warning> warningsToSuppress,
             Set<Mode> modes,
             UserPrefabValueCaches userPrefabs,
+            TypeCache typeCache,
+            SharedAnnotationCaches annotationCaches,
             Objenesis objenesis,
             boolean usingGetClass,
             Function<String, String> converter) {
@@ -96,6 +104,8 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         this.warningsToSuppress = EnumSet.copyOf(warningsToSuppress);
         this.modesToSet = new HashSet<>(modes);
         this.userPrefabs = userPrefabs;
+        this.typeCache = typeCache;
+        this.annotationCaches = annotationCaches;
         this.usingGetClass = usingGetClass;
         this.fieldnameToGetter = converter;
     }
@@ -126,6 +136,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public SingleTypeEqualsVerifierApi<T> set(Mode... modes) {
         Collections.addAll(modesToSet, modes);
+        detachTypeCache();
         return this;
     }
 
@@ -134,6 +145,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public <S> SingleTypeEqualsVerifierApi<T> withPrefabValues(Class<S> otherType, S red, S blue) {
         PrefabValuesApi.addPrefabValues(userPrefabs, objenesis, otherType, red, blue);
+        detachTypeCache();
         return this;
     }
 
@@ -145,6 +157,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
             Supplier<S> red,
             Supplier<S> blue) {
         PrefabValuesApi.addResettablePrefabValues(userPrefabs, objenesis, otherType, red, blue);
+        detachTypeCache();
         return this;
     }
 
@@ -178,6 +191,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public <S> SingleTypeEqualsVerifierApi<T> withGenericPrefabValues(Class<S> otherType, Func1<?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(userPrefabs, otherType, factory);
+        detachTypeCache();
         return this;
     }
 
@@ -186,6 +200,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
     @CheckReturnValue
     public <S> SingleTypeEqualsVerifierApi<T> withGenericPrefabValues(Class<S> otherType, Func2<?, ?, S> factory) {
         PrefabValuesApi.addGenericPrefabValues(userPrefabs, otherType, factory);
+        detachTypeCache();
         return this;
     }
 
@@ -455,6 +470,11 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         return result;
     }
 
+    // The shared values were generated with a configuration that this class no longer has.
+    private void detachTypeCache() {
+        typeCache = new TypeCache();
+    }
+
     private void performVerification() {
         if (type.isEnum() || type.isInterface()) {
             return;
@@ -462,7 +482,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
         Validations.validateClassCanBeVerified(type);
 
         Configuration<T> config = buildConfig();
-        var context = new Context<T>(config, userPrefabs, fieldCache, objenesis);
+        var context = new Context<T>(config, userPrefabs, fieldCache, typeCache, objenesis);
         Validations
                 .validateProcessedAnnotations(
                     type,
@@ -491,6 +511,7 @@ public class SingleTypeEqualsVerifierApi<T> implements EqualsVerifierApi<T> {
                     modesToSet,
                     fieldnameToGetter,
                     ignoredAnnotationClassNames,
+                    annotationCaches,
                     actualFields,
                     equalExamples,
                     unequalExamples);
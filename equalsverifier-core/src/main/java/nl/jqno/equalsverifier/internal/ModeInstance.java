@@ -1,10 +1,30 @@
 package nl.jqno.equalsverifier.internal;
 
+import java.nio.file.Path;
+import java.util.Set;
+
 import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier.internal.util.Validations;
 
 public final class ModeInstance implements Mode {
 
     private ModeInstance() {}
 
     public static final Mode SKIP_MOCKITO = new ModeInstance();
+    public static final Mode PARALLEL_FIELD_CHECKS = new ModeInstance();
+
+    public record PersistentCache(Path directory) implements Mode {
+        public PersistentCache {
+            Validations.validateNotNull(directory, "persistent cache directory is null.");
+        }
+    }
+
+    public static Path persistentCacheDirectory(Set<Mode> modes) {
+        for (Mode mode : modes) {
+            if (mode instanceof PersistentCache p) {
+                return p.directory();
+            }
+        }
+        return null;
+    }
 }
@@ -1,23 +1,122 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
 
+/**
+ * Runs {@link FieldCheck}s against each field of a class.
+ *
+ * <p>
+ * When several checks are given at once, each field is visited only once, and all checks run against it in the given
+ * order. The failure that is reported is the same one that would be reported if each check ran against all fields
+ * before the next check started: the failure of the earliest check, on the earliest field that it fails for.
+ */
 public class FieldInspector<T> {
 
     private final Class<T> type;
     private final boolean isKotlin;
+    private final boolean inParallel;
 
     public FieldInspector(Class<T> type, boolean isKotlin) {
+        this(type, isKotlin, false);
+    }
+
+    public FieldInspector(Class<T> type, boolean isKotlin, boolean inParallel) {
         this.type = type;
         this.isKotlin = isKotlin;
+        this.inParallel = inParallel;
     }
 
     public void check(FieldCheck<T> check) {
+        check(List.of(check));
+    }
+
+    public void check(List<FieldCheck<T>> checks) {
+        List<FieldProbe> probes = probes();
+        if (inParallel) {
+            checkInParallel(checks, probes);
+            return;
+        }
+
+        // Once a check fails, later fields only need to run the checks before it, because only those can still
+        // produce an earlier failure.
+        Throwable failure = null;
+        int limit = checks.size();
+        for (FieldProbe probe : probes) {
+            for (int c = 0; c < limit; c = c + 1) {
+                Throwable t = attempt(checks.get(c), probe);
+                if (t != null) {
+                    failure = t;
+                    limit = c;
+                }
+            }
+        }
+        rethrow(failure);
+    }
+
+    // Instance fields are checked concurrently, but failures are reported in check and field order, so the first
+    // failure is the same one the sequential path would report. Static fields are checked afterwards, one at a time,
+    // because some checks temporarily change their value, which would affect the checks that run concurrently.
+    private void checkInParallel(List<FieldCheck<T>> checks, List<FieldProbe> probes) {
+        Throwable[][] failures = new Throwable[probes.size()][];
+        IntStream
+                .range(0, probes.size())
+                .parallel()
+                .filter(i -> !probes.get(i).isStatic())
+                .forEach(i -> failures[i] = attemptAll(checks, probes.get(i)));
+        for (int i = 0; i < probes.size(); i = i + 1) {
+            if (probes.get(i).isStatic()) {
+                failures[i] = attemptAll(checks, probes.get(i));
+            }
+        }
+
+        for (int c = 0; c < checks.size(); c = c + 1) {
+            for (Throwable[] f : failures) {
+                rethrow(f[c]);
+            }
+        }
+    }
+
+    private List<FieldProbe> probes() {
         FieldIterable it = isKotlin ? FieldIterable.ofKotlin(type) : FieldIterable.of(type);
-        for (FieldProbe fieldProbe : it) {
+        List<FieldProbe> result = new ArrayList<>();
+        it.forEach(result::add);
+        return result;
+    }
+
+    private static <T> Throwable[] attemptAll(List<FieldCheck<T>> checks, FieldProbe fieldProbe) {
+        Throwable[] result = new Throwable[checks.size()];
+        for (int c = 0; c < checks.size(); c = c + 1) {
+            result[c] = attempt(checks.get(c), fieldProbe);
+            if (result[c] != null) {
+                // The checks after a failing one would never be reported for this field
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static Throwable attempt(FieldCheck<?> check, FieldProbe fieldProbe) {
+        try {
             check.execute(fieldProbe);
+            return null;
+        }
+        catch (RuntimeException | Error e) {
+            return e;
+        }
+    }
+
+    private static void rethrow(Throwable failure) {
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
         }
     }
 }
@@ -1,7 +1,10 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
+import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.*;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
@@ -54,36 +57,41 @@ public class FieldsChecker<T> implements Checker {
 
     @Override
     public void check() {
-        var inspector = new FieldInspector<>(context.getType(), config.isKotlin());
-
+        List<FieldCheck<T>> checks = new ArrayList<>();
         if (!context.getClassProbe().isEqualsInheritedFromObject()) {
-            inspector.check(arrayFieldCheck);
-            inspector.check(floatAndDoubleFieldCheck);
-            inspector.check(reflexivityFieldCheck);
+            checks.add(arrayFieldCheck);
+            checks.add(floatAndDoubleFieldCheck);
+            checks.add(reflexivityFieldCheck);
         }
 
         if (!ignoreMutability(context.getType())) {
-            inspector.check(mutableStateFieldCheck);
+            checks.add(mutableStateFieldCheck);
         }
 
         if (!config.warningsToSuppress().contains(Warning.TRANSIENT_FIELDS)) {
-            inspector.check(transientFieldsCheck);
+            checks.add(transientFieldsCheck);
         }
 
-        inspector.check(significantFieldCheck);
-        inspector.check(symmetryFieldCheck);
-        inspector.check(transitivityFieldCheck);
-        inspector.check(stringFieldCheck);
+        checks.add(significantFieldCheck);
+        checks.add(symmetryFieldCheck);
+        checks.add(transitivityFieldCheck);
+        checks.add(stringFieldCheck);
 
         if (!config.warningsToSuppress().contains(Warning.BIGDECIMAL_EQUALITY)) {
-            inspector.check(bigDecimalFieldCheck);
+            checks.add(bigDecimalFieldCheck);
         }
 
         AnnotationCache cache = config.annotationCache();
         if (cache.hasClassAnnotation(config.type(), SupportedAnnotations.ENTITY)
                 && !config.warningsToSuppress().contains(Warning.JPA_GETTER)) {
-            inspector.check(jpaLazyGetterFieldCheck);
+            checks.add(jpaLazyGetterFieldCheck);
         }
+
+        // All checks run in a single pass over the fields
+        var inspector = new FieldInspector<>(context.getType(),
+                config.isKotlin(),
+                config.modes().contains(Mode.parallelFieldChecks()));
+        inspector.check(checks);
     }
 
     private boolean ignoreMutability(Class<?> type) {
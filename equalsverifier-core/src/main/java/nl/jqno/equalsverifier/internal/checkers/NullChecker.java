@@ -1,5 +1,6 @@
 package nl.jqno.equalsverifier.internal.checkers;
 
+import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.internal.checkers.fieldchecks.NullPointerExceptionFieldCheck;
 import nl.jqno.equalsverifier.internal.util.Context;
@@ -14,11 +15,14 @@ public class NullChecker<T> implements Checker {
 
     @Override
     public void check() {
-        if (context.getConfiguration().warningsToSuppress().contains(Warning.NULL_FIELDS)) {
+        var config = context.getConfiguration();
+        if (config.warningsToSuppress().contains(Warning.NULL_FIELDS)) {
             return;
         }
 
-        var inspector = new FieldInspector<>(context.getType(), context.getConfiguration().isKotlin());
+        var inspector = new FieldInspector<>(context.getType(),
+                config.isKotlin(),
+                config.modes().contains(Mode.parallelFieldChecks()));
         inspector.check(new NullPointerExceptionFieldCheck<>(context));
     }
 }
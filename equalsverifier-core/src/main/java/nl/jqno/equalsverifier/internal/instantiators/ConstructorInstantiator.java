@@ -1,12 +1,11 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
-import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.Map;
 
-import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.reflection.FieldSlots;
 import nl.jqno.equalsverifier.internal.reflection.RecordProbe;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
 import org.objenesis.Objenesis;
 
@@ -14,7 +13,9 @@ import org.objenesis.Objenesis;
  * Creates an instance of a class by calling the constructor.
  */
 public class ConstructorInstantiator<T> implements Instantiator<T> {
-    private final Class<T> type;
+    private final RecordProbe<T> recordProbe;
+    private final FieldSlots slots;
+    private volatile int[] componentSlots;
 
     /**
      * Package private constructor. Use {@link InstantiatorFactory#of(ClassProbe, Objenesis)} instead.
@@ -22,28 +23,43 @@ public class ConstructorInstantiator<T> implements Instantiator<T> {
      * @param type The type to instantiate.
      */
     ConstructorInstantiator(Class<T> type) {
-        this.type = type;
+        this.recordProbe = new RecordProbe<>(type);
+        this.slots = FieldSlots.of(type);
     }
 
     /** {@inheritDoc} */
     @Override
-    public T instantiate(Map<Field, Object> values) {
-        var params = new ArrayList<Object>();
-        for (var component : type.getRecordComponents()) {
-            try {
-                Field f = type.getDeclaredField(component.getName());
-                Object value = values.get(f);
-                if (value == null) {
-                    value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(f.getType());
-                }
-                params.add(value);
-            }
-            catch (NoSuchFieldException e) {
-                throw new ReflectionException(e);
+    public FieldSlots slots() {
+        return slots;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T instantiate(ValueVector values) {
+        var slotted = values.in(slots);
+        var fields = recordProbe.componentFields();
+        var indices = componentSlots();
+        var params = new ArrayList<Object>(fields.size());
+        for (int i = 0; i < indices.length; i = i + 1) {
+            Object value = indices[i] < 0 ? null : slotted.get(indices[i]);
+            if (value == null) {
+                value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(fields.get(i).getType());
             }
+            params.add(value);
         }
-        var recordProbe = new RecordProbe<T>(type);
         return recordProbe.callRecordConstructor(params);
     }
 
+    private int[] componentSlots() {
+        var result = componentSlots;
+        if (result == null) {
+            var fields = recordProbe.componentFields();
+            result = new int[fields.size()];
+            for (int i = 0; i < result.length; i = i + 1) {
+                result[i] = slots.indexOf(fields.get(i));
+            }
+            componentSlots = result;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,430 @@
+package nl.jqno.equalsverifier.internal.instantiators;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.*;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.Handle;
+import net.bytebuddy.jar.asm.Label;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Opcodes;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.utility.OpenedClassReader;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import nl.jqno.equalsverifier.internal.reflection.FieldSlots;
+
+/**
+ * Maps the parameters of a constructor to the instance fields that the constructor assigns them to, so the class can be
+ * instantiated with given field values without writing to its final fields.
+ *
+ * <p>
+ * A parameter is mapped to a field if the constructor's bytecode assigns the unmodified parameter directly to the
+ * field, as in {@code this.x = x;} or {@code this.x = Objects.requireNonNull(x);}. Parameters that the bytecode doesn't
+ * map, for instance because the constructor makes a defensive copy, are mapped by name to a final field that no other
+ * parameter is mapped to, provided the class was compiled with {@code -parameters}. If the class file can't be read,
+ * all parameters are mapped by name. A constructor qualifies only if each final instance field of the class, including
+ * those of its superclasses, is mapped to exactly one parameter.
+ */
+final class ConstructorMapping<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private final Constructor<T> constructor;
+    private final List<Field> parameterFields;
+    private volatile MethodHandle constructorHandle;
+
+    private ConstructorMapping(Constructor<T> constructor, List<Field> parameterFields) {
+        this.constructor = constructor;
+        this.parameterFields = parameterFields;
+    }
+
+    /**
+     * Finds a constructor that assigns all final instance fields of the given type.
+     *
+     * <p>
+     * If several constructors qualify, the one with the fewest parameters that aren't assigned to a field is chosen.
+     *
+     * @param <T>  The type to instantiate.
+     * @param type The type to instantiate.
+     * @return A mapping for the chosen constructor, or {@code null} if no constructor qualifies.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> ConstructorMapping<T> find(Class<T> type) {
+        if (type.isInterface() || type.isRecord() || Modifier.isAbstract(type.getModifiers())) {
+            return null;
+        }
+        var assignments = readAssignments(type);
+        ConstructorMapping<T> result = null;
+        int fewestUnmapped = Integer.MAX_VALUE;
+        for (Constructor<?> c : type.getDeclaredConstructors()) {
+            var fields = assignments == null
+                    ? mapByName(type, c)
+                    : withNamesForUnmappedFinalFields(type, c, assignments.get(Type.getConstructorDescriptor(c)));
+            if (fields == null) {
+                continue;
+            }
+            fields = withoutMismatchedTypes(fields, c.getParameterTypes());
+            if (!coversFinalFields(type, fields)) {
+                continue;
+            }
+            int unmapped = Collections.frequency(fields, null);
+            if (unmapped < fewestUnmapped) {
+                result = new ConstructorMapping<>((Constructor<T>) c, fields);
+                fewestUnmapped = unmapped;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fields that the constructor's parameters are assigned to, in the order of the parameters.
+     *
+     * @return The fields that the parameters are assigned to; {@code null} for parameters that aren't assigned.
+     */
+    List<Field> parameterFields() {
+        return parameterFields;
+    }
+
+    /**
+     * Returns the types of the constructor's parameters.
+     *
+     * @return The types of the constructor's parameters.
+     */
+    Class<?>[] parameterTypes() {
+        return constructor.getParameterTypes();
+    }
+
+    /**
+     * Calls the constructor with the given arguments.
+     *
+     * <p>
+     * The constructor is called only once, even if it throws. Its exception is reported as the cause of a
+     * {@link ReflectionException}.
+     *
+     * @param args The arguments for the constructor.
+     * @return The new instance.
+     */
+    @SuppressWarnings("unchecked")
+    T newInstance(Object[] args) {
+        MethodHandle handle = getConstructorHandle();
+        if (handle != null) {
+            try {
+                return (T) (Object) handle.invokeExact(args);
+            }
+            catch (Throwable e) {
+                throw new ReflectionException(buildMessage(e, args), e);
+            }
+        }
+        return rethrow(() -> constructor.newInstance(args), e -> buildMessage(e.getCause(), args));
+    }
+
+    private String buildMessage(Throwable constructorException, Object[] args) {
+        String msg = "Failed to run constructor for type " + constructor.getDeclaringClass().getName()
+                + "\n   These were the values passed to the constructor: " + Arrays.toString(args);
+        if (constructorException instanceof NullPointerException) {
+            return msg + "\n   If the constructor does not accept null values for its parameters,"
+                    + " consider suppressing Warning.NULL_FIELDS.";
+        }
+        return msg;
+    }
+
+    private MethodHandle getConstructorHandle() {
+        var result = constructorHandle;
+        if (result == null) {
+            try {
+                constructor.setAccessible(true);
+                result = LOOKUP
+                        .unreflectConstructor(constructor)
+                        .asSpreader(Object[].class, constructor.getParameterCount())
+                        .asType(CONSTRUCTOR_TYPE);
+            }
+            catch (IllegalAccessException | RuntimeException e) {
+                return null;
+            }
+            constructorHandle = result;
+        }
+        return result;
+    }
+
+    private static List<Field> withoutMismatchedTypes(List<Field> fields, Class<?>[] parameterTypes) {
+        var result = new ArrayList<Field>(fields);
+        for (int i = 0; i < parameterTypes.length; i = i + 1) {
+            Field f = result.get(i);
+            if (f != null && !parameterTypes[i].isAssignableFrom(f.getType())) {
+                // Not every value of the field's type can be passed to the parameter
+                result.set(i, null);
+            }
+        }
+        return result;
+    }
+
+    private static boolean coversFinalFields(Class<?> type, List<Field> fields) {
+        var slots = FieldSlots.of(type);
+        var seen = new HashSet<Field>();
+        for (Field f : fields) {
+            if (f != null && !seen.add(f)) {
+                // The field would receive the values of several parameters
+                return false;
+            }
+        }
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            if (slots.probe(i).isFinal() && !seen.contains(slots.field(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<Field> mapByName(Class<?> type, Constructor<?> c) {
+        var result = new ArrayList<Field>();
+        for (Parameter p : c.getParameters()) {
+            if (!p.isNamePresent()) {
+                return null;
+            }
+            result.add(declaredField(type, p.getName()));
+        }
+        return result;
+    }
+
+    private static List<Field> withNamesForUnmappedFinalFields(Class<?> type, Constructor<?> c, List<Field> fields) {
+        Parameter[] parameters = c.getParameters();
+        if (fields == null || fields.size() != parameters.length) {
+            return fields;
+        }
+        var result = new ArrayList<Field>(fields);
+        for (int i = 0; i < parameters.length; i = i + 1) {
+            if (result.get(i) != null || !parameters[i].isNamePresent()) {
+                continue;
+            }
+            Field f = declaredField(type, parameters[i].getName());
+            if (f != null && Modifier.isFinal(f.getModifiers()) && !result.contains(f)) {
+                result.set(i, f);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, List<Field>> readAssignments(Class<?> type) {
+        try {
+            byte[] bytes = ClassFileLocator.ForClassLoader.read(type);
+            var finder = new AssignmentFinder(type);
+            OpenedClassReader.of(bytes).accept(finder, 0);
+            return finder.result;
+        }
+        catch (RuntimeException e) {
+            // For instance, because the class was generated at runtime or because its class file version is unknown
+            return null;
+        }
+    }
+
+    private static final class AssignmentFinder extends ClassVisitor {
+        private final Class<?> type;
+        private final String owner;
+        private final Map<String, List<Field>> result = new HashMap<>();
+
+        AssignmentFinder(Class<?> type) {
+            super(OpenedClassReader.ASM_API);
+            this.type = type;
+            this.owner = Type.getInternalName(type);
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+                int access,
+                String name,
+                String descriptor,
+                String signature,
+                String[] exceptions) {
+            if (!"<init>".equals(name)) {
+                return null;
+            }
+            return new ConstructorVisitor(descriptor);
+        }
+
+        private final class ConstructorVisitor extends MethodVisitor {
+            private static final int NONE = 0;
+            private static final int THIS_LOADED = 1;
+            private static final int PARAMETER_LOADED = 2;
+            private static final int MESSAGE_LOADED = 3;
+            private static final String OBJECTS = "java/util/Objects";
+            private static final String REQUIRE_NON_NULL = "(Ljava/lang/Object;)Ljava/lang/Object;";
+            private static final String REQUIRE_NON_NULL_WITH_MESSAGE =
+                    "(Ljava/lang/Object;Ljava/lang/String;)Ljava/lang/Object;";
+
+            private final String descriptor;
+            private final Type[] parameterTypes;
+            private final Map<Integer, Integer> parameterIndices = new HashMap<>();
+            private final Map<String, Integer> assignments = new HashMap<>();
+            private final Set<String> ambiguousFields = new HashSet<>();
+            private final Set<Integer> modifiedParameters = new HashSet<>();
+            private int state = NONE;
+            private int loadedParameter = -1;
+
+            ConstructorVisitor(String descriptor) {
+                super(OpenedClassReader.ASM_API);
+                this.descriptor = descriptor;
+                this.parameterTypes = Type.getArgumentTypes(descriptor);
+                int slot = 1;
+                for (int i = 0; i < parameterTypes.length; i = i + 1) {
+                    parameterIndices.put(slot, i);
+                    slot = slot + parameterTypes[i].getSize();
+                }
+            }
+
+            @Override
+            public void visitVarInsn(int opcode, int varIndex) {
+                Integer parameter = parameterIndices.get(varIndex);
+                if (opcode >= Opcodes.ISTORE && opcode <= Opcodes.ASTORE) {
+                    if (parameter != null) {
+                        modifiedParameters.add(parameter);
+                    }
+                    state = NONE;
+                }
+                else if (opcode == Opcodes.ALOAD && varIndex == 0) {
+                    state = THIS_LOADED;
+                }
+                else if (state == THIS_LOADED && parameter != null) {
+                    state = PARAMETER_LOADED;
+                    loadedParameter = parameter;
+                }
+                else {
+                    state = NONE;
+                }
+            }
+
+            @Override
+            public void visitFieldInsn(int opcode, String fieldOwner, String name, String fieldDescriptor) {
+                if (opcode == Opcodes.PUTFIELD && owner.equals(fieldOwner)) {
+                    if (state == PARAMETER_LOADED && !assignments.containsKey(name)) {
+                        assignments.put(name, loadedParameter);
+                    }
+                    else {
+                        ambiguousFields.add(name);
+                    }
+                }
+                state = NONE;
+            }
+
+            @Override
+            public void visitIincInsn(int varIndex, int increment) {
+                Integer parameter = parameterIndices.get(varIndex);
+                if (parameter != null) {
+                    modifiedParameters.add(parameter);
+                }
+                state = NONE;
+            }
+
+            @Override
+            public void visitInsn(int opcode) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitIntInsn(int opcode, int operand) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitTypeInsn(int opcode, String typeName) {
+                if (opcode != Opcodes.CHECKCAST || state != PARAMETER_LOADED) {
+                    state = NONE;
+                }
+            }
+
+            @Override
+            public void visitMethodInsn(
+                    int opcode,
+                    String methodOwner,
+                    String name,
+                    String methodDescriptor,
+                    boolean isInterface) {
+                // Objects.requireNonNull returns its argument unmodified
+                boolean requireNonNull =
+                        opcode == Opcodes.INVOKESTATIC && OBJECTS.equals(methodOwner) && "requireNonNull".equals(name);
+                boolean withoutMessage = state == PARAMETER_LOADED && REQUIRE_NON_NULL.equals(methodDescriptor);
+                boolean withMessage = state == MESSAGE_LOADED && REQUIRE_NON_NULL_WITH_MESSAGE.equals(methodDescriptor);
+                state = requireNonNull && (withoutMessage || withMessage) ? PARAMETER_LOADED : NONE;
+            }
+
+            @Override
+            public void visitInvokeDynamicInsn(
+                    String name,
+                    String indyDescriptor,
+                    Handle bootstrapMethodHandle,
+                    Object... bootstrapMethodArguments) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitJumpInsn(int opcode, Label label) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitLdcInsn(Object value) {
+                state = state == PARAMETER_LOADED && value instanceof String ? MESSAGE_LOADED : NONE;
+            }
+
+            @Override
+            public void visitTableSwitchInsn(
+                    int min,
+                    int max,
+                    Label dflt,
+                    Label... labels) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitLookupSwitchInsn(
+                    Label dflt,
+                    int[] keys,
+                    Label[] labels) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitMultiANewArrayInsn(String arrayDescriptor, int numDimensions) {
+                state = NONE;
+            }
+
+            @Override
+            public void visitEnd() {
+                var fields = new ArrayList<Field>(Collections.nCopies(parameterTypes.length, null));
+                var assignedParameters = new HashSet<Integer>();
+                var sharedParameters = new HashSet<Integer>();
+                for (var entry : assignments.entrySet()) {
+                    int parameter = entry.getValue();
+                    if (!assignedParameters.add(parameter)) {
+                        // The parameter is assigned to several fields, so their values can't be chosen independently
+                        sharedParameters.add(parameter);
+                    }
+                    if (!ambiguousFields.contains(entry.getKey()) && !modifiedParameters.contains(parameter)) {
+                        fields.set(parameter, declaredField(type, entry.getKey()));
+                    }
+                }
+                sharedParameters.forEach(p -> fields.set(p, null));
+                result.put(descriptor, fields);
+            }
+        }
+    }
+
+    private static Field declaredField(Class<?> type, String name) {
+        try {
+            Field result = type.getDeclaredField(name);
+            return Modifier.isStatic(result.getModifiers()) ? null : result;
+        }
+        catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+}
@@ -1,17 +1,34 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
 
-import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
-import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
+import nl.jqno.equalsverifier.internal.reflection.FieldSlots;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
 
 /**
  * Creates an instance of a class or record.
  */
 public interface Instantiator<T> {
 
+    /**
+     * Returns the slots of the instance fields of the class that is instantiated. A {@link ValueVector} with other
+     * slots that is passed to {@link #instantiate(ValueVector)} is translated to these slots first.
+     *
+     * @return The slots of the instantiated class.
+     */
+    FieldSlots slots();
+
+    /**
+     * Creates an instance of the given type, with its field set to the given values. If no value is given for a
+     * specific field, the field will be set to its default value: null for object references, 0 for numbers, false for
+     * booleans.
+     *
+     * @param values Values to assign to the instance's fields, preferably in the slots from {@link #slots()}.
+     * @return An instance with assigned values.
+     */
+    T instantiate(ValueVector values);
+
     /**
      * Creates an instance of the given type, with its field set to the given values. If no value is given for a
      * specific field, the field will be set to its default value: null for object references, 0 for numbers, false for
@@ -20,7 +37,9 @@ public interface Instantiator<T> {
      * @param values Values to assign to the instance's fields.
      * @return An instance with assigned values.
      */
-    T instantiate(Map<Field, Object> values);
+    default T instantiate(Map<Field, Object> values) {
+        return instantiate(ValueVector.of(slots(), values));
+    }
 
     /**
      * Creates a new instance with all fields set to the same value as their counterparts from {@code original}.
@@ -29,10 +48,13 @@ public interface Instantiator<T> {
      * @return A copy of the given original.
      */
     default T copy(Object original) {
-        var values = new HashMap<Field, Object>();
-        for (FieldProbe p : FieldIterable.ofIgnoringStatic(original.getClass())) {
-            Object value = p.getValue(original);
-            values.put(p.getField(), value);
+        var slots = slots();
+        var values = ValueVector.empty(slots);
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            // Only the fields that the original's class also has, are copied
+            if (slots.field(i).getDeclaringClass().isInstance(original)) {
+                values.set(i, slots.probe(i).getValue(original));
+            }
         }
         return instantiate(values);
     }
@@ -1,10 +1,34 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
+import java.lang.reflect.Field;
+import java.util.concurrent.atomic.AtomicReference;
+
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.reflection.FieldSlots;
 import org.objenesis.Objenesis;
 
+/**
+ * Provides Instantiators.
+ *
+ * <p>
+ * An Instantiator only depends on the class it instantiates, so each one is created once per class and shared by all
+ * verifications in the JVM. Instantiators don't keep a reference to the Objenesis instance they were created with, so
+ * sharing them doesn't keep a verification's state alive.
+ *
+ * <p>
+ * Instances of classes with final fields are normally created by writing to those fields reflectively. If the JVM
+ * doesn't allow that, for instance because it runs with {@code --illegal-final-field-mutation=deny}, a constructor that
+ * assigns all final fields is called instead, if the class has one.
+ */
 public final class InstantiatorFactory {
 
+    private static final ClassValue<AtomicReference<Instantiator<?>>> INSTANTIATORS = new ClassValue<>() {
+        @Override
+        protected AtomicReference<Instantiator<?>> computeValue(Class<?> type) {
+            return new AtomicReference<>();
+        }
+    };
+
     private InstantiatorFactory() {
         // Do not instantiate
     }
@@ -20,10 +44,78 @@ public final class InstantiatorFactory {
      * @param objenesis To instantiate non-record classes.
      * @return an {@code InstanceCreator} for the given class.
      */
+    @SuppressWarnings("unchecked")
     public static <S> Instantiator<S> of(ClassProbe<S> probe, Objenesis objenesis) {
+        var ref = INSTANTIATORS.get(probe.getType());
+        var result = ref.get();
+        if (result == null) {
+            // If another thread wins the race, its instantiator is just as good
+            var created = create(probe, objenesis);
+            var witness = ref.compareAndExchange(null, created);
+            result = witness == null ? created : witness;
+        }
+        return (Instantiator<S>) result;
+    }
+
+    private static <S> Instantiator<S> create(ClassProbe<S> probe, Objenesis objenesis) {
         if (probe.isRecord()) {
             return new ConstructorInstantiator<>(probe.getType());
         }
+        if (hasFinalInstanceFields(probe.getType())) {
+            return create(probe, objenesis, FinalFieldWrites.ALLOWED);
+        }
         return new ReflectionInstantiator<>(probe, objenesis);
     }
+
+    /**
+     * Creates an Instantiator for a class that isn't a record.
+     *
+     * @param <S>                 Represents the type of the class to instantiate.
+     * @param probe               Represents the class to instantiate.
+     * @param objenesis           To instantiate the class if its final fields can be written.
+     * @param finalFieldsWritable Whether the JVM allows final fields to be written reflectively.
+     * @return an {@code InstanceCreator} for the given class.
+     */
+    static <S> Instantiator<S> create(ClassProbe<S> probe, Objenesis objenesis, boolean finalFieldsWritable) {
+        if (!finalFieldsWritable) {
+            var mapping = ConstructorMapping.find(probe.getType());
+            if (mapping != null) {
+                return new MappedConstructorInstantiator<>(probe.getType(), mapping);
+            }
+        }
+        return new ReflectionInstantiator<>(probe, objenesis);
+    }
+
+    private static boolean hasFinalInstanceFields(Class<?> type) {
+        var slots = FieldSlots.of(type);
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            if (slots.probe(i).isFinal()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines only once, and only when it's needed, whether the JVM allows final fields to be written reflectively,
+     * by trying it on a field of our own. This is what {@link ReflectionInstantiator} would try as well.
+     */
+    private static final class FinalFieldWrites {
+        static final boolean ALLOWED = tryWrite();
+
+        private final Object value = new Object();
+
+        private static boolean tryWrite() {
+            try {
+                Field f = FinalFieldWrites.class.getDeclaredField("value");
+                f.setAccessible(true);
+                var target = new FinalFieldWrites();
+                f.set(target, "written");
+                return "written".equals(target.value);
+            }
+            catch (ReflectiveOperationException | RuntimeException e) {
+                return false;
+            }
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package nl.jqno.equalsverifier.internal.instantiators;
+
+import java.util.ArrayList;
+
+import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
+import nl.jqno.equalsverifier.internal.reflection.FieldMutator;
+import nl.jqno.equalsverifier.internal.reflection.FieldSlots;
+import nl.jqno.equalsverifier.internal.reflection.ValueVector;
+import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
+import org.objenesis.Objenesis;
+
+/**
+ * Creates an instance of a class by passing the field values to a constructor that assigns them, instead of writing to
+ * the fields reflectively.
+ *
+ * <p>
+ * This is used when the JVM doesn't allow final fields to be written reflectively. Non-final fields that the
+ * constructor doesn't assign, are still assigned reflectively after the constructor has run.
+ */
+public final class MappedConstructorInstantiator<T> implements Instantiator<T> {
+
+    private final ConstructorMapping<T> mapping;
+    private final FieldSlots slots;
+    private final Class<?>[] parameterTypes;
+    private final int[] parameterSlots;
+    private final int[] remainingSlots;
+
+    /**
+     * Package private constructor. Use {@link InstantiatorFactory#of(ClassProbe, Objenesis)} instead.
+     *
+     * @param type    The type to instantiate.
+     * @param mapping The constructor to call, and the fields that its parameters are assigned to.
+     */
+    MappedConstructorInstantiator(Class<T> type, ConstructorMapping<T> mapping) {
+        this.mapping = mapping;
+        this.slots = FieldSlots.of(type);
+        this.parameterTypes = mapping.parameterTypes();
+
+        var fields = mapping.parameterFields();
+        this.parameterSlots = new int[fields.size()];
+        var mapped = new boolean[slots.size()];
+        for (int i = 0; i < parameterSlots.length; i = i + 1) {
+            parameterSlots[i] = fields.get(i) == null ? -1 : slots.indexOf(fields.get(i));
+            if (parameterSlots[i] >= 0) {
+                mapped[parameterSlots[i]] = true;
+            }
+        }
+        var remaining = new ArrayList<Integer>();
+        for (int i = 0; i < mapped.length; i = i + 1) {
+            if (!mapped[i] && slots.probe(i).canBeModifiedReflectively()) {
+                remaining.add(i);
+            }
+        }
+        this.remainingSlots = remaining.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public FieldSlots slots() {
+        return slots;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T instantiate(ValueVector values) {
+        var slotted = values.in(slots);
+        var args = new Object[parameterSlots.length];
+        for (int i = 0; i < args.length; i = i + 1) {
+            Object value = parameterSlots[i] < 0 ? null : slotted.get(parameterSlots[i]);
+            args[i] = value == null ? PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(parameterTypes[i]) : value;
+        }
+        T instance = mapping.newInstance(args);
+        for (int i : remainingSlots) {
+            var p = slots.probe(i);
+            Object value = slotted.get(i);
+            if (value == null) {
+                value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(p.getType());
+            }
+            new FieldMutator(p).setNewValue(instance, value);
+        }
+        return instance;
+    }
+}
@@ -1,9 +1,5 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
-import java.lang.reflect.Field;
-import java.util.Map;
-import java.util.function.BiConsumer;
-
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.*;
 import nl.jqno.equalsverifier.internal.util.PrimitiveMappers;
@@ -17,6 +13,7 @@ public final class ReflectionInstantiator<T> implements Instantiator<T> {
 
     private final Class<T> type;
     private final ClassProbe<T> probe;
+    private final FieldSlots slots;
     private final ObjectInstantiator<T> objenesisInstantiator;
 
     /**
@@ -28,27 +25,32 @@ public final class ReflectionInstantiator<T> implements Instantiator<T> {
     ReflectionInstantiator(ClassProbe<T> probe, Objenesis objenesis) {
         this.type = probe.getType();
         this.probe = probe;
+        this.slots = FieldSlots.of(type);
         this.objenesisInstantiator = objenesis.getInstantiatorOf(type);
     }
 
     /** {@inheritDoc} */
     @Override
-    public T instantiate(Map<Field, Object> values) {
+    public FieldSlots slots() {
+        return slots;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public T instantiate(ValueVector values) {
+        var slotted = values.in(slots);
         if (probe.isAbstract()) {
             throw new ReflectionException("Cannot instantiate abstract class " + probe.getType().getName());
         }
         T instance = objenesisInstantiator.newInstance();
-        traverseFields(values, (p, v) -> new FieldMutator(p).setNewValue(instance, v));
-        return instance;
-    }
-
-    private void traverseFields(Map<Field, Object> values, BiConsumer<FieldProbe, Object> setValue) {
-        for (FieldProbe p : FieldIterable.ofIgnoringStatic(type)) {
-            Object value = values.get(p.getField());
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            FieldProbe p = slots.probe(i);
+            Object value = slotted.get(i);
             if (value == null) {
                 value = PrimitiveMappers.DEFAULT_VALUE_MAPPER.get(p.getType());
             }
-            setValue.accept(p, value);
+            new FieldMutator(p).setNewValue(instance, value);
         }
+        return instance;
     }
 }
@@ -0,0 +1,92 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.JarEntry;
+
+/**
+ * Provides stamps for class files: short strings that change when the content of a class file changes, but not when
+ * it's merely compiled again or checked out somewhere else. Class files aren't parsed to compute their stamps.
+ *
+ * <p>
+ * An entry in a jar is stamped with the size and checksum from the jar's central directory, so it isn't even read.
+ * Class files of the JDK are stamped with the JDK's version. Other class files are stamped with a hash of their bytes.
+ *
+ * <p>
+ * Stamps are remembered, so each class file is stamped only once for as long as this object lives.
+ */
+public final class ClassFileStamps {
+
+    /** The stamp of a class file that can't be found. */
+    public static final String MISSING = "missing";
+
+    // ConcurrentHashMap doesn't allow null keys or values, so the bootstrap class loader and unknown stamps need
+    // stand-ins.
+    private static final Object BOOTSTRAP_LOADER = new Object();
+    private static final String UNKNOWN = "";
+
+    private final Map<Key, String> stamps = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the stamp of the class file of the given class.
+     *
+     * @param loader    The class loader that loads the class, or {@code null} for the bootstrap class loader.
+     * @param className The binary name of the class.
+     * @return The stamp of the class file; {@link #MISSING} if the class file can't be found; or {@code null} if the
+     *             class file can't be stamped, for instance because it can't be read.
+     */
+    public String of(ClassLoader loader, String className) {
+        var key = new Key(Objects.requireNonNullElse(loader, BOOTSTRAP_LOADER), className);
+        var result = stamps.get(key);
+        if (result == null) {
+            // If another thread stamps the same class file in the meantime, its stamp is just as good
+            result = stamp(loader, className);
+            stamps.putIfAbsent(key, result);
+        }
+        return UNKNOWN.equals(result) ? null : result;
+    }
+
+    private static String stamp(ClassLoader loader, String className) {
+        String resource = className.replace('.', '/') + ".class";
+        URL url = loader == null ? ClassLoader.getSystemResource(resource) : loader.getResource(resource);
+        if (url == null) {
+            return MISSING;
+        }
+        try {
+            return switch (url.getProtocol()) {
+                case "jar" -> jarStamp(url);
+                case "jrt" -> "jdk " + Runtime.version();
+                default -> contentStamp(url);
+            };
+        }
+        catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            return UNKNOWN;
+        }
+    }
+
+    private static String jarStamp(URL url) throws IOException, NoSuchAlgorithmException {
+        // The jar's central directory has the entry's checksum, so the entry itself doesn't need to be read
+        JarEntry entry = ((JarURLConnection) url.openConnection()).getJarEntry();
+        if (entry.getCrc() < 0) {
+            return contentStamp(url);
+        }
+        return "crc " + entry.getSize() + " " + entry.getCrc();
+    }
+
+    private static String contentStamp(URL url) throws IOException, NoSuchAlgorithmException {
+        try (InputStream in = url.openStream()) {
+            byte[] bytes = in.readAllBytes();
+            return "sha " + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        }
+    }
+
+    private record Key(Object loader, String className) {}
+}
@@ -5,14 +5,37 @@ import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Provides read-only reflective access to a class.
+ *
+ * <p>
+ * There's one probe per class, kept in a {@link ClassValue}. The methods and fields that the class declares are looked
+ * up once, the first time they're needed, so the answers to most questions can be found without reflection and
+ * without throwing and catching exceptions for absent members. Getters are also remembered by name, once they've been
+ * looked up in the class's hierarchy.
+ *
+ * <p>
+ * The {@link Method} and {@link Field} instances in these caches are shared by all callers, so they never leave this
+ * class: {@link #findField(String)} returns a copy that the caller is free to modify, for instance with
+ * {@code setAccessible}.
  */
 public final class ClassProbe<T> {
 
+    private static final ClassValue<ClassProbe<?>> PROBES = new ClassValue<>() {
+        @Override
+        protected ClassProbe<?> computeValue(Class<?> type) {
+            return new ClassProbe<>(type);
+        }
+    };
+
     private final Class<T> type;
+    private volatile Members members;
+    private volatile Set<String> methodNamesInHierarchy;
+    private volatile Boolean equalsInheritedFromObject;
+    final Map<String, Optional<Method>> getters = new ConcurrentHashMap<>();
 
     /** Private constructor. Call {@link #of(Class)} instead. */
     private ClassProbe(Class<T> type) {
@@ -26,8 +49,9 @@ public final class ClassProbe<T> {
      * @param type The class on which {@link ClassProbe} operates.
      * @return A {@link ClassProbe} for T.
      */
+    @SuppressWarnings("unchecked")
     public static <T> ClassProbe<T> of(Class<T> type) {
-        return new ClassProbe<>(type);
+        return (ClassProbe<T>) PROBES.get(type);
     }
 
     /**
@@ -91,25 +115,22 @@ public final class ClassProbe<T> {
      * @return True if T has a method with the given name and parameters.
      */
     public boolean hasMethod(String name) {
-        Class<?> t = type;
-        while (t != null) {
-            if (declaresMethod(t, name)) {
-                return true;
+        var result = methodNamesInHierarchy;
+        if (result == null) {
+            var names = new HashSet<String>();
+            for (Class<?> t = type; t != null; t = t.getSuperclass()) {
+                for (Signature signature : ClassProbe.of(t).members().methods.keySet()) {
+                    names.add(signature.name());
+                }
             }
-            t = t.getSuperclass();
+            result = Set.copyOf(names);
+            methodNamesInHierarchy = result;
         }
-        return false;
+        return result.contains(name);
     }
 
-    @SuppressWarnings("ReturnValueIgnored")
     private static boolean declaresMethod(Class<?> type, String name, Class<?>... parameterTypes) {
-        try {
-            type.getDeclaredMethod(name, parameterTypes);
-            return true;
-        }
-        catch (NoSuchMethodException e) {
-            return false;
-        }
+        return getMethod(type, name, parameterTypes) != null;
     }
 
     /**
@@ -141,28 +162,37 @@ public final class ClassProbe<T> {
      *             any of its superclasses (except {@link Object}).
      */
     public boolean isEqualsInheritedFromObject() {
-        ClassProbe<? super T> i = this;
-        while (i.getType() != Object.class) {
-            if (i.declaresEquals() && !i.isEqualsAbstract()) {
-                return false;
+        var result = equalsInheritedFromObject;
+        if (result == null) {
+            result = Boolean.TRUE;
+            ClassProbe<? super T> i = this;
+            while (i.getType() != Object.class) {
+                if (i.declaresEquals() && !i.isEqualsAbstract()) {
+                    result = Boolean.FALSE;
+                    break;
+                }
+                i = i.getSuperProbe();
             }
-            i = i.getSuperProbe();
+            equalsInheritedFromObject = result;
         }
-        return true;
+        return result;
     }
 
     /**
      * Finds a field (no matter its accessibility) in T or its superclasses.
      *
      * @param name The name of the field that should be found.
-     * @return The field wrapped in an Optional, or an empty Optional if the field could not be found.
+     * @return The field wrapped in an Optional, or an empty Optional if the field could not be found. The field is a
+     *             new instance, which isn't shared with other callers.
      */
     public Optional<Field> findField(String name) {
         Class<?> t = type;
         while (t != null) {
             Field f = getField(t, name);
             if (f != null) {
-                return Optional.of(f);
+                Class<?> declaringClass = t;
+                // The cached instance is shared, so give the caller its own copy
+                return Optional.of(rethrow(() -> declaringClass.getDeclaredField(name)));
             }
             t = t.getSuperclass();
         }
@@ -170,12 +200,7 @@ public final class ClassProbe<T> {
     }
 
     private static Field getField(Class<?> type, String name) {
-        try {
-            return type.getDeclaredField(name);
-        }
-        catch (NoSuchFieldException e) {
-            return null;
-        }
+        return ClassProbe.of(type).members().fields.get(name);
     }
 
     /**
@@ -189,7 +214,15 @@ public final class ClassProbe<T> {
         return findMethod(methodName, parameterTypes).map(m -> Modifier.isFinal(m.getModifiers())).orElse(false);
     }
 
-    private Optional<Method> findMethod(String name, Class<?>... parameterTypes) {
+    Optional<Method> findMethod(String name, Class<?>... parameterTypes) {
+        if (parameterTypes.length == 0) {
+            // Most lookups without parameters are for getters, which are looked up repeatedly for each field
+            return getters.computeIfAbsent(name, this::findMethodInHierarchy);
+        }
+        return findMethodInHierarchy(name, parameterTypes);
+    }
+
+    private Optional<Method> findMethodInHierarchy(String name, Class<?>... parameterTypes) {
         Class<?> t = type;
         while (t != null) {
             Method f = getMethod(t, name, parameterTypes);
@@ -202,12 +235,7 @@ public final class ClassProbe<T> {
     }
 
     private static Method getMethod(Class<?> type, String name, Class<?>... parameterTypes) {
-        try {
-            return type.getDeclaredMethod(name, parameterTypes);
-        }
-        catch (NoSuchMethodException e) {
-            return null;
-        }
+        return ClassProbe.of(type).members().methods.get(new Signature(name, List.of(parameterTypes)));
     }
 
     /**
@@ -216,6 +244,38 @@ public final class ClassProbe<T> {
      * @return A probe for T's superclass.
      */
     public ClassProbe<? super T> getSuperProbe() {
-        return new ClassProbe<>(type.getSuperclass());
+        Class<? super T> superclass = type.getSuperclass();
+        return superclass == null ? new ClassProbe<>(null) : ClassProbe.of(superclass);
+    }
+
+    private Members members() {
+        var result = members;
+        if (result == null) {
+            result = new Members(type);
+            members = result;
+        }
+        return result;
     }
+
+    /** The methods and fields that a class declares, each looked up with a single reflective call. */
+    private static final class Members {
+        private final Map<Signature, Method> methods = new HashMap<>();
+        private final Map<String, Field> fields = new HashMap<>();
+
+        private Members(Class<?> type) {
+            for (Method m : type.getDeclaredMethods()) {
+                // Like getDeclaredMethod, prefer the method with the most specific return type over its bridge methods
+                methods.merge(new Signature(m.getName(), List.of(m.getParameterTypes())), m, Members::mostSpecific);
+            }
+            for (Field f : type.getDeclaredFields()) {
+                fields.put(f.getName(), f);
+            }
+        }
+
+        private static Method mostSpecific(Method existing, Method candidate) {
+            return existing.getReturnType().isAssignableFrom(candidate.getReturnType()) ? candidate : existing;
+        }
+    }
+
+    private record Signature(String name, List<Class<?>> parameterTypes) {}
 }
@@ -0,0 +1,137 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads and writes the value of a field through method handles that are resolved only once per field.
+ *
+ * <p>
+ * If a handle can't be resolved, for instance because the module system doesn't allow access to the field or because
+ * the field is static and final, or if a handle fails, the value is read or written through regular reflection
+ * instead. That way, any problems are reported in the same way as before.
+ */
+final class FieldAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<Map<String, FieldAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field) {
+        this.field = field;
+        boolean accessible = makeAccessible(field);
+        this.getter = accessible ? resolveGetter(field) : null;
+        this.setter = accessible ? resolveSetter(field) : null;
+    }
+
+    /**
+     * Returns the accessor for the given field.
+     *
+     * @param field The field to access.
+     * @return The accessor for the given field.
+     */
+    static FieldAccessor of(Field field) {
+        return ACCESSORS.get(field.getDeclaringClass()).computeIfAbsent(field.getName(), n -> new FieldAccessor(field));
+    }
+
+    /**
+     * Returns the value of the field in the given object.
+     *
+     * @param object The object that contains the field, or {@code null} if the field is static.
+     * @return The field's value.
+     */
+    Object get(Object object) {
+        if (getter != null) {
+            try {
+                return (Object) getter.invokeExact(object);
+            }
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable ignored) {
+                // Let reflection report the problem
+            }
+        }
+        field.setAccessible(true);
+        return rethrow(() -> field.get(object));
+    }
+
+    /**
+     * Assigns the given value to the field in the given object.
+     *
+     * @param object   The object that contains the field, or {@code null} if the field is static.
+     * @param newValue The value to assign to the field.
+     * @throws IllegalAccessException If the field can't be assigned.
+     */
+    void set(Object object, Object newValue) throws IllegalAccessException {
+        if (setter != null) {
+            try {
+                setter.invokeExact(object, newValue);
+                return;
+            }
+            catch (Error e) {
+                throw e;
+            }
+            catch (Throwable ignored) {
+                // Let reflection report the problem
+            }
+        }
+        field.setAccessible(true);
+        field.set(object, newValue);
+    }
+
+    private static boolean makeAccessible(Field field) {
+        try {
+            field.setAccessible(true);
+            return true;
+        }
+        catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle resolveGetter(Field field) {
+        try {
+            return adapt(LOOKUP.unreflectGetter(field), field, GETTER_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle resolveSetter(Field field) {
+        try {
+            return adapt(LOOKUP.unreflectSetter(field), field, SETTER_TYPE);
+        }
+        catch (IllegalAccessException e) {
+            // For instance, because the field is static and final, or because it belongs to a record
+            return null;
+        }
+    }
+
+    private static MethodHandle adapt(MethodHandle handle, Field field, MethodType type) {
+        MethodHandle result = handle;
+        if (Modifier.isStatic(field.getModifiers())) {
+            result = MethodHandles.dropArguments(result, 0, Object.class);
+        }
+        return result.asType(type);
+    }
+}
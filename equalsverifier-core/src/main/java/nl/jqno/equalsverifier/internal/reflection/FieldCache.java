@@ -1,6 +1,7 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import nl.jqno.equalsverifier.internal.valueproviders.SubjectCreator;
@@ -12,7 +13,7 @@ public class FieldCache {
      * We store Strings instead of Fields, to make it easier to interact with when we don't actually have a reference to
      * a Field.
      */
-    private final Map<Key, Tuple<?>> cache = new HashMap<>();
+    private final Map<Key, Tuple<?>> cache = new ConcurrentHashMap<>();
 
     /**
      * Adds the given factory to the cache and associates it with the given type.
@@ -28,6 +29,25 @@ public class FieldCache {
         }
     }
 
+    /**
+     * Adds the given tuple to the cache, unless the cache already contains a tuple for the given field. In that case,
+     * the existing tuple is kept, so all callers will see the same values, even if they run concurrently.
+     *
+     * @param <T>       The type of the values.
+     * @param fieldName The name of the field to associate with the values.
+     * @param fieldType The type of the field to associate with the values.
+     * @param tuple     The tuple that contains the values.
+     * @return The tuple that is in the cache after this call, or the given tuple if it can't be cached.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> putIfAbsent(String fieldName, TypeTag fieldType, Tuple<T> tuple) {
+        if (fieldName == null || fieldType == null) {
+            return tuple;
+        }
+        Tuple<?> existing = cache.putIfAbsent(new Key(fieldName, fieldType), tuple);
+        return existing == null ? tuple : (Tuple<T>) existing;
+    }
+
     /**
      * Retrieves the values from the cache for the given field.
      *
@@ -55,6 +75,9 @@ public class FieldCache {
      * @return Whether values are available for the given field.
      */
     public boolean contains(String fieldName, TypeTag fieldType) {
+        if (fieldName == null || fieldType == null) {
+            return false;
+        }
         return cache.containsKey(new Key(fieldName, fieldType));
     }
 
@@ -1,10 +1,6 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
-import java.lang.reflect.Field;
-import java.util.*;
-import java.util.stream.Collectors;
-
-import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
+import java.util.Iterator;
 
 /**
  * Iterable to iterate over all declared fields in a class and, if needed, over all declared fields of its superclasses.
@@ -86,75 +82,6 @@ public final class FieldIterable implements Iterable<FieldProbe> {
      */
     @Override
     public Iterator<FieldProbe> iterator() {
-        return createFieldList().iterator();
-    }
-
-    private List<FieldProbe> createFieldList() {
-        if (isKotlin) {
-            return createKotlinFieldList();
-        }
-        else {
-            return createJavaFieldList();
-        }
-    }
-
-    private List<FieldProbe> createJavaFieldList() {
-        var result = new ArrayList<FieldProbe>();
-        result.addAll(addFieldsFor(type));
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                result.addAll(addFieldsFor(c));
-            }
-        }
-
-        return result;
-    }
-
-    private List<FieldProbe> createKotlinFieldList() {
-        var result = new ArrayList<FieldProbe>();
-        result.addAll(addFieldsFor(type));
-        var names = result.stream().map(FieldProbe::getName).collect(Collectors.toSet());
-
-        if (includeSuperclasses) {
-            for (Class<?> c : SuperclassIterable.of(type)) {
-                List<FieldProbe> superFields =
-                        addFieldsFor(c).stream().filter(p -> !names.contains(p.getName())).toList();
-                result.addAll(superFields);
-                superFields.stream().map(FieldProbe::getName).forEach(names::add);
-            }
-        }
-
-        return result;
-    }
-
-    private List<FieldProbe> addFieldsFor(Class<?> c) {
-        var fields = new ArrayList<FieldProbe>();
-        var statics = new ArrayList<FieldProbe>();
-
-        for (Field field : c.getDeclaredFields()) {
-            FieldProbe probe = FieldProbe.of(field);
-
-            if (field.isSynthetic() && !KotlinScreen.isSyntheticKotlinDelegate(field)) {
-                continue;
-            }
-            if (probe.getName().startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
-                    || probe.getName().equals("__cobertura_counters")) {
-                continue;
-            }
-
-            boolean isStatic = probe.isStatic();
-            if (isStatic && includeStatic) {
-                statics.add(probe);
-            }
-            if (!isStatic) {
-                fields.add(probe);
-            }
-        }
-
-        var result = new ArrayList<FieldProbe>();
-        result.addAll(fields);
-        result.addAll(statics);
-        return result;
+        return FieldLayout.of(type).fields(includeSuperclasses, includeStatic, isKotlin).iterator();
     }
 }
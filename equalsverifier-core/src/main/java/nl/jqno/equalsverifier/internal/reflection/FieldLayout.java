@@ -0,0 +1,111 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
+
+/**
+ * Contains the fields of a class, in each of the orders that {@link FieldIterable} can iterate over them.
+ *
+ * <p>
+ * The layout of a class never changes, so it's computed once per class and kept in a {@link ClassValue}. The layout of
+ * a class is built on top of the layout of its superclass.
+ */
+final class FieldLayout {
+
+    private static final ClassValue<FieldLayout> LAYOUTS = new ClassValue<>() {
+        @Override
+        protected FieldLayout computeValue(Class<?> type) {
+            return new FieldLayout(type);
+        }
+    };
+
+    private final List<FieldProbe> declaredInstance;
+    private final List<FieldProbe> declared;
+    private final List<FieldProbe> allInstance;
+    private final List<FieldProbe> all;
+    private final List<FieldProbe> kotlin;
+
+    private FieldLayout(Class<?> type) {
+        var instanceFields = new ArrayList<FieldProbe>();
+        var staticFields = new ArrayList<FieldProbe>();
+        for (Field field : type.getDeclaredFields()) {
+            if (isIgnored(field)) {
+                continue;
+            }
+            FieldProbe probe = FieldProbe.of(field);
+            if (probe.isStatic()) {
+                staticFields.add(probe);
+            }
+            else {
+                instanceFields.add(probe);
+            }
+        }
+        this.declaredInstance = List.copyOf(instanceFields);
+        this.declared = concat(instanceFields, staticFields);
+
+        Class<?> superclass = type.getSuperclass();
+        if (superclass == null || superclass.equals(Object.class)) {
+            this.allInstance = declaredInstance;
+            this.all = declared;
+            this.kotlin = declared;
+        }
+        else {
+            var parent = LAYOUTS.get(superclass);
+            this.allInstance = concat(declaredInstance, parent.allInstance);
+            this.all = concat(declared, parent.all);
+
+            // Kotlin backing fields that are overridden in a subclass are ignored in the superclass
+            Set<String> names = declared.stream().map(FieldProbe::getName).collect(Collectors.toSet());
+            this.kotlin = concat(declared, parent.kotlin.stream().filter(p -> !names.contains(p.getName())).toList());
+        }
+    }
+
+    /**
+     * Returns the layout of the given class.
+     *
+     * @param type The class to get the layout of.
+     * @return The layout of the given class.
+     */
+    public static FieldLayout of(Class<?> type) {
+        return LAYOUTS.get(type);
+    }
+
+    /**
+     * Returns the fields of a class, in the order determined by the given options.
+     *
+     * @param includeSuperclasses Whether the fields of the superclasses should be included.
+     * @param includeStatic       Whether static fields should be included.
+     * @param isKotlin            Whether overridden Kotlin backing fields in superclasses should be ignored.
+     * @return An immutable list of fields.
+     */
+    public List<FieldProbe> fields(boolean includeSuperclasses, boolean includeStatic, boolean isKotlin) {
+        if (isKotlin) {
+            return kotlin;
+        }
+        if (includeSuperclasses) {
+            return includeStatic ? all : allInstance;
+        }
+        return includeStatic ? declared : declaredInstance;
+    }
+
+    private static boolean isIgnored(Field field) {
+        if (field.isSynthetic() && !KotlinScreen.isSyntheticKotlinDelegate(field)) {
+            return true;
+        }
+        String name = field.getName();
+        return name.startsWith("bitmap$init$") // Generated by Scala 2.x's -Xcheckinit flag
+                || "__cobertura_counters".equals(name);
+    }
+
+    private static List<FieldProbe> concat(List<FieldProbe> first, List<FieldProbe> second) {
+        var result = new ArrayList<FieldProbe>(first.size() + second.size());
+        result.addAll(first);
+        result.addAll(second);
+        return List.copyOf(result);
+    }
+}
@@ -33,7 +33,6 @@ public class FieldMutator {
     public void setNewValue(Object object, Object newValue) {
         rethrow(() -> {
             if (probe.canBeModifiedReflectively()) {
-                field.setAccessible(true);
                 safelySetField(object, newValue);
             }
         });
@@ -41,7 +40,7 @@ public class FieldMutator {
 
     private void safelySetField(Object object, Object newValue) throws IllegalAccessException {
         try {
-            field.set(object, newValue);
+            FieldAccessor.of(field).set(object, newValue);
         }
         catch (IllegalArgumentException e) {
             String msg = e.getMessage();
@@ -1,7 +1,6 @@
 package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations.*;
-import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -52,8 +51,7 @@ public final class FieldProbe {
      * @throws ReflectionException If the operation fails.
      */
     public Object getValue(Object object) {
-        field.setAccessible(true);
-        return rethrow(() -> field.get(object));
+        return FieldAccessor.of(field).get(object);
     }
 
     /**
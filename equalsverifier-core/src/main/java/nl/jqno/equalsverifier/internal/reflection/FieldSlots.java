@@ -0,0 +1,98 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns a dense index, or slot, to each instance field of a class, including the fields of its superclasses. The
+ * slots follow the order of {@link FieldIterable#ofIgnoringStatic(Class)}.
+ *
+ * <p>
+ * The slots of a class never change, so they're computed once per class and kept in a {@link ClassValue}.
+ */
+public final class FieldSlots {
+
+    private static final ClassValue<FieldSlots> SLOTS = new ClassValue<>() {
+        @Override
+        protected FieldSlots computeValue(Class<?> type) {
+            return new FieldSlots(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final List<FieldProbe> probes;
+    private final Map<Field, Integer> indices;
+
+    private FieldSlots(Class<?> type) {
+        this.type = type;
+        var list = new ArrayList<FieldProbe>();
+        FieldIterable.ofIgnoringStatic(type).forEach(list::add);
+        this.probes = List.copyOf(list);
+        this.indices = new HashMap<>();
+        for (int i = 0; i < probes.size(); i = i + 1) {
+            indices.put(probes.get(i).getField(), i);
+        }
+    }
+
+    /**
+     * Returns the slots of the given class.
+     *
+     * @param type The class whose instance fields to index.
+     * @return The slots of the given class.
+     */
+    public static FieldSlots of(Class<?> type) {
+        return SLOTS.get(type);
+    }
+
+    /**
+     * Returns the class whose fields are indexed.
+     *
+     * @return The class whose fields are indexed.
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return The number of slots.
+     */
+    public int size() {
+        return probes.size();
+    }
+
+    /**
+     * Returns the probe of the field in the given slot.
+     *
+     * @param index The slot.
+     * @return The probe of the field in the given slot.
+     */
+    public FieldProbe probe(int index) {
+        return probes.get(index);
+    }
+
+    /**
+     * Returns the field in the given slot.
+     *
+     * @param index The slot.
+     * @return The field in the given slot.
+     */
+    public Field field(int index) {
+        return probes.get(index).getField();
+    }
+
+    /**
+     * Returns the slot of the given field.
+     *
+     * @param field The field to find.
+     * @return The slot of the given field, or -1 if it isn't an instance field of this class or its superclasses.
+     */
+    public int indexOf(Field field) {
+        Integer result = indices.get(field);
+        return result == null ? -1 : result;
+    }
+}
@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.function.Predicate;
 
 import nl.jqno.equalsverifier.ScanOption;
+import nl.jqno.equalsverifier.internal.util.Validations;
 
 public class PackageScanOptions {
 
@@ -12,6 +13,7 @@ public class PackageScanOptions {
     private Class<?> mustExtend = null;
     private Set<Class<?>> exceptClasses = new HashSet<>();
     private Predicate<Class<?>> exclusionPredicate = c -> false;
+    private Shard shard = null;
 
     public boolean scanRecursively() {
         return scanRecursively;
@@ -33,6 +35,10 @@ public class PackageScanOptions {
         return exclusionPredicate;
     }
 
+    public Shard shard() {
+        return shard;
+    }
+
     public enum O implements ScanOption {
         RECURSIVE, IGNORE_EXTERNAL_JARS;
     }
@@ -63,6 +69,16 @@ public class PackageScanOptions {
 
     public record ExclusionPredicate(Predicate<Class<?>> exclusionPredicate) implements ScanOption {}
 
+    public record Shard(int index, int count) implements ScanOption {
+        public Shard {
+            Validations.validateShard(index, count);
+        }
+
+        public boolean contains(Class<?> type) {
+            return Math.floorMod(type.getName().hashCode(), count) == index;
+        }
+    }
+
     public static PackageScanOptions process(ScanOption... options) {
         PackageScanOptions result = new PackageScanOptions();
 
@@ -82,6 +98,9 @@ public class PackageScanOptions {
             if (option instanceof ExclusionPredicate ep) {
                 result.exclusionPredicate = result.exclusionPredicate.or(ep.exclusionPredicate);
             }
+            if (option instanceof Shard sh) {
+                result.shard = sh;
+            }
         }
         return result;
     }
@@ -2,22 +2,32 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
-import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.ZipFile;
 
 import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.util.Validations;
 
-/** Scans a package for classes. */
+/**
+ * Scans a package for classes.
+ *
+ * <p>
+ * The names of the candidate classes are collected from directories and jars first, and then sorted, so the result
+ * has the same order on every run and on every file system. The classes are loaded in parallel, but they aren't
+ * initialized: concurrent static initializers that depend on each other could deadlock.
+ */
 public final class PackageScanner {
 
+    private static final String CLASS_SUFFIX = ".class";
+
     /**
      * Do not instantiate.
      */
@@ -30,21 +40,23 @@ public final class PackageScanner {
      *
      * @param packageName The package to scan.
      * @param options     Modifications to the standard package scanning behaviour.
-     * @return the classes contained in the given package.
+     * @return the classes contained in the given package, ordered by name.
      */
     public static List<Class<?>> getClassesIn(String packageName, PackageScanOptions options) {
-        String packagePath = packageName.replace(".", FileSystems.getDefault().getSeparator());
+        String packagePath = packageName.replace('.', '/');
+
+        SortedSet<String> classNames = getResources(packagePath)
+                .flatMap(r -> processResource(r, packageName, packagePath, options))
+                .filter(n -> !n.endsWith("Test"))
+                .collect(Collectors.toCollection(TreeSet::new));
 
-        List<Class<?>> result = getResources(packagePath)
-                .flatMap(r -> processResource(r, packagePath, options))
-                .map(f -> fileToClass(f, packagePath))
+        List<Class<?>> result = loadClasses(classNames)
+                .stream()
                 .filter(c -> !c.isAnonymousClass())
                 .filter(c -> !c.isLocalClass())
-                .filter(c -> !c.getName().endsWith("Test"))
                 .filter(
                     c -> options.mustExtend() == null
                             || (options.mustExtend().isAssignableFrom(c) && !options.mustExtend().equals(c)))
-                .distinct()
                 .collect(Collectors.toList()); // Need a mutable List for the next validations
 
         Validations.validateTypesAreKnown(options.exceptClasses(), result);
@@ -53,6 +65,24 @@ public final class PackageScanner {
         return result;
     }
 
+    /**
+     * Selects the classes that belong to the shard given in the options, if any.
+     *
+     * <p>
+     * This is separate from {@link #getClassesIn(String, PackageScanOptions)}, because a package should be validated
+     * to contain classes before it is sharded: a shard may legitimately be empty.
+     *
+     * @param classes The classes to select from.
+     * @param options Modifications to the standard package scanning behaviour.
+     * @return the classes that belong to the shard, in their original order.
+     */
+    public static List<Class<?>> selectShard(List<Class<?>> classes, PackageScanOptions options) {
+        if (options.shard() == null) {
+            return classes;
+        }
+        return classes.stream().filter(options.shard()::contains).collect(Collectors.toList());
+    }
+
     private static Stream<URL> getResources(String packagePath) {
         ClassLoader cl = Thread.currentThread().getContextClassLoader();
         return rethrow(
@@ -60,9 +90,13 @@ public final class PackageScanner {
             e -> "Could not resolve package " + packagePath + ": " + e.getMessage());
     }
 
-    private static Stream<File> processResource(URL resource, String packagePath, PackageScanOptions options) {
+    private static Stream<String> processResource(
+            URL resource,
+            String packageName,
+            String packagePath,
+            PackageScanOptions options) {
         return rethrow(() -> switch (resource.toURI().getScheme()) {
-            case "file" -> processDirectory(resource, options.scanRecursively());
+            case "file" -> walkDirectory(resource, packageName, options.scanRecursively());
             case "jar" -> options.ignoreExternalJars()
                     ? Stream.empty()
                     : walkJar(resource, packagePath, options.scanRecursively());
@@ -71,45 +105,81 @@ public final class PackageScanner {
         }, e -> "Could not resolve resource " + resource + ": " + e.getMessage());
     }
 
-    private static Stream<File> processDirectory(URL resource, boolean scanRecursively) throws URISyntaxException {
-        String path = resource.toURI().getPath();
-        return walkDirectory(new File(path), scanRecursively);
-    }
-
-    private static Stream<File> walkDirectory(File dir, boolean scanRecursively) {
-        if (!dir.exists()) {
+    private static Stream<String> walkDirectory(URL resource, String packageName, boolean scanRecursively)
+            throws URISyntaxException, IOException {
+        Path dir = Path.of(resource.toURI());
+        if (!Files.isDirectory(dir)) {
             return Stream.empty();
         }
-        return Arrays
-                .stream(dir.listFiles())
-                .filter(f -> (scanRecursively && f.isDirectory()) || f.getName().endsWith(".class"))
-                .flatMap(f -> f.isDirectory() ? walkDirectory(f, scanRecursively) : Stream.of(f));
+        int maxDepth = scanRecursively ? Integer.MAX_VALUE : 1;
+        try (Stream<Path> files = Files.walk(dir, maxDepth, FileVisitOption.FOLLOW_LINKS)) {
+            return files
+                    .filter(f -> f.getFileName().toString().endsWith(CLASS_SUFFIX))
+                    .filter(Files::isRegularFile)
+                    .map(f -> packageName + "." + toClassName(dir.relativize(f)))
+                    .toList()
+                    .stream();
+        }
     }
 
-    private static Stream<File> walkJar(URL resource, String packagePath, boolean scanRecursively) throws IOException {
+    private static String toClassName(Path relativePath) {
+        var result = new StringJoiner(".");
+        relativePath.forEach(segment -> result.add(segment.toString()));
+        return stripClassSuffix(result.toString());
+    }
+
+    private static Stream<String> walkJar(URL resource, String packagePath, boolean scanRecursively)
+            throws IOException {
         String path = resource.getPath();
         String jar = path.substring(5, path.indexOf("!"));
-        int packageSegments = packagePath.split("/").length;
-        try (var file = new JarFile(jar)) {
+        String prefix = packagePath + "/";
+        try (var file = new ZipFile(jar)) {
             return file
                     .stream()
                     .map(e -> e.getName())
-                    .filter(e -> e.endsWith(".class"))
-                    .filter(e -> e.startsWith(packagePath))
-                    .filter(e -> scanRecursively || e.split("/").length == packageSegments + 1)
-                    .map(e -> new File(e))
+                    .filter(e -> e.endsWith(CLASS_SUFFIX))
+                    .filter(e -> e.startsWith(prefix))
+                    .filter(e -> scanRecursively || e.indexOf('/', prefix.length()) < 0)
+                    .map(e -> stripClassSuffix(e.replace('/', '.')))
                     .toList()
                     .stream();
         }
     }
 
-    private static Class<?> fileToClass(File f, String packagePath) {
-        String className = f.getName().substring(0, f.getName().length() - 6);
-        String fullPath = f.getParent();
-        String packageName =
-                fullPath.substring(fullPath.indexOf(packagePath)).replace(FileSystems.getDefault().getSeparator(), ".");
+    private static String stripClassSuffix(String name) {
+        return name.substring(0, name.length() - CLASS_SUFFIX.length());
+    }
+
+    private static List<Class<?>> loadClasses(SortedSet<String> classNames) {
+        // Loading is mostly I/O and bytecode verification, which parallelizes well. A parallel stream keeps the
+        // encounter order, so the result is still sorted by name.
+        List<String> names = List.copyOf(classNames);
+        List<Class<?>> loaded = names.parallelStream().<Class<?>>map(PackageScanner::tryLoad).toList();
+
+        var result = new ArrayList<Class<?>>(names.size());
+        for (int i = 0; i < names.size(); i = i + 1) {
+            Class<?> c = loaded.get(i);
+            // Load a failing class again on this thread, so it produces the same error as a sequential scan would
+            result.add(c != null ? c : load(names.get(i)));
+        }
+        return result;
+    }
+
+    private static Class<?> tryLoad(String className) {
+        try {
+            return Class.forName(className, false, PackageScanner.class.getClassLoader());
+        }
+        catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    private static Class<?> load(String className) {
+        int lastDot = className.lastIndexOf('.');
+        String packageName = className.substring(0, lastDot);
+        String simpleName = className.substring(lastDot + 1);
         return rethrow(
-            () -> Class.forName(packageName + "." + className),
-            e -> "Could not resolve class " + className + ", which was found in package " + packageName);
+            () -> Class.forName(className, false, PackageScanner.class.getClassLoader()),
+            e -> "Could not resolve class " + simpleName + ", which was found in package " + packageName);
     }
 }
@@ -2,15 +2,36 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+
+/**
+ * Provides access to the components and the canonical constructor of a record.
+ *
+ * <p>
+ * The fields of the components and the canonical constructor are looked up only once per probe. The constructor is
+ * called through a method handle that takes all parameters as one array, or through reflection if no such method
+ * handle can be created. Either way, it's called only once per instance, even if it throws.
+ */
 public class RecordProbe<T> {
 
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
     private final Class<T> type;
+    private volatile List<Field> componentFields;
+    private volatile Constructor<T> constructor;
+    private volatile MethodHandle constructorHandle;
 
     public RecordProbe(Class<T> type) {
         this.type = type;
@@ -20,25 +41,83 @@ public class RecordProbe<T> {
         return StreamSupport.stream(FieldIterable.ofIgnoringStatic(type).spliterator(), false);
     }
 
+    /**
+     * Returns the fields that belong to the record's components, in the order of the parameters of the canonical
+     * constructor.
+     *
+     * @return The fields that belong to the record's components.
+     */
+    public List<Field> componentFields() {
+        var result = componentFields;
+        if (result == null) {
+            var fields = new ArrayList<Field>();
+            for (var component : type.getRecordComponents()) {
+                try {
+                    fields.add(type.getDeclaredField(component.getName()));
+                }
+                catch (NoSuchFieldException e) {
+                    throw new ReflectionException(e);
+                }
+            }
+            result = List.copyOf(fields);
+            componentFields = result;
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
     public T callRecordConstructor(List<?> params) {
-        Constructor<T> constructor = getRecordConstructor();
-        return rethrow(() -> constructor.newInstance(params.toArray(new Object[0])), e -> buildMessage(e, params));
+        Object[] args = params.toArray(new Object[0]);
+        MethodHandle handle = getConstructorHandle();
+        if (handle != null) {
+            try {
+                return (T) (Object) handle.invokeExact(args);
+            }
+            catch (Throwable e) {
+                throw new ReflectionException(buildMessage(e, params), e);
+            }
+        }
+        Constructor<T> c = getRecordConstructor();
+        return rethrow(() -> c.newInstance(args), e -> buildMessage(e.getCause(), params));
     }
 
     private Constructor<T> getRecordConstructor() {
-        return rethrow(() -> {
-            List<Class<?>> constructorTypes = fields().map(FieldProbe::getType).collect(Collectors.toList());
-            Constructor<T> result = type.getDeclaredConstructor(constructorTypes.toArray(new Class<?>[0]));
-            result.setAccessible(true);
-            return result;
-        });
+        var result = constructor;
+        if (result == null) {
+            result = rethrow(() -> {
+                List<Class<?>> constructorTypes = fields().map(FieldProbe::getType).collect(Collectors.toList());
+                Constructor<T> c = type.getDeclaredConstructor(constructorTypes.toArray(new Class<?>[0]));
+                c.setAccessible(true);
+                return c;
+            });
+            constructor = result;
+        }
+        return result;
+    }
+
+    private MethodHandle getConstructorHandle() {
+        var result = constructorHandle;
+        if (result == null) {
+            Constructor<T> c = getRecordConstructor();
+            try {
+                result = LOOKUP
+                        .unreflectConstructor(c)
+                        .asSpreader(Object[].class, c.getParameterCount())
+                        .asType(CONSTRUCTOR_TYPE);
+            }
+            catch (IllegalAccessException e) {
+                return null;
+            }
+            constructorHandle = result;
+        }
+        return result;
     }
 
-    private String buildMessage(Throwable e, List<?> params) {
+    private String buildMessage(Throwable constructorException, List<?> params) {
         String msg = "Record: failed to run constructor for record type " + type.getName()
                 + "\n   These were the values passed to the constructor: " + params;
 
-        if (e.getCause() instanceof NullPointerException) {
+        if (constructorException instanceof NullPointerException) {
             return msg + "\n   If the record does not accept null values for its constructor parameters,"
                     + " consider suppressing Warning.NULL_FIELDS.";
         }
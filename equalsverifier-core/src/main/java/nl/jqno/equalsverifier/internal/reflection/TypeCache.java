@@ -0,0 +1,63 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Contains a cache for generated values, keyed by type, that can be shared by all the verifications that use the same
+ * configuration. This way, values for a type that is used in many classes only need to be generated once.
+ *
+ * <p>
+ * Some generated values depend on the name of the field they were generated for; for instance, Mockito mocks, which
+ * mention the field in their error messages. Such values must be stored with that field name as a qualifier, so they
+ * are only shared between fields with the same name.
+ *
+ * <p>
+ * The cache should only contain values that are derived from the configuration. When the configuration changes, it
+ * should be replaced with a new, empty cache.
+ */
+public class TypeCache {
+
+    private final Map<Key, Tuple<?>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * Adds the given tuple to the cache, unless the cache already contains a tuple for the given type and qualifier. In
+     * that case, the existing tuple is kept, so all callers will see the same values, even if they run concurrently.
+     *
+     * @param <T>       The type of the values.
+     * @param qualifier The name of the field the values were generated for, or {@code null} if they don't depend on
+     *                      it.
+     * @param type      The type of the values.
+     * @param tuple     The tuple that contains the values.
+     * @return The tuple that is in the cache after this call.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> putIfAbsent(String qualifier, TypeTag type, Tuple<T> tuple) {
+        Tuple<?> existing = cache.putIfAbsent(new Key(qualifier, type), tuple);
+        return existing == null ? tuple : (Tuple<T>) existing;
+    }
+
+    /**
+     * Retrieves the values from the cache for the given type and qualifier.
+     *
+     * @param <T>       The returned values will have this as generic type.
+     * @param qualifier The name of the field the values are needed for, or {@code null} if they don't depend on it.
+     * @param type      The type for which values are needed.
+     * @return A tuple of values for the given type, or {@code null} if none is available.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Tuple<T> get(String qualifier, TypeTag type) {
+        return (Tuple<T>) cache.get(new Key(qualifier, type));
+    }
+
+    /**
+     * Returns the number of tuples in the cache.
+     *
+     * @return The number of tuples in the cache.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private record Key(String qualifier, TypeTag type) {}
+}
@@ -4,6 +4,7 @@ import static nl.jqno.equalsverifier.internal.reflection.Util.classForName;
 
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.jqno.equalsverifier.internal.exceptions.EqualsVerifierInternalBugException;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinProbe;
@@ -14,12 +15,23 @@ import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
  *
  * <p>
  * If the type is not generic, the genericTypes list will be empty.
+ *
+ * <p>
+ * TypeTags are used as keys in many caches, so the hash code is computed only once. Also, each TypeTag remembers the
+ * TypeTags it resolved for the fields of its own type and supertypes. That way, resolving the same field again returns
+ * the same instance, which makes most comparisons an identity check. Other fields aren't remembered, so the memo of a
+ * TypeTag that lives as long as the JVM, such as {@link #NULL}, can't grow without bounds.
  */
-public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
+public final class TypeTag {
 
     /** Null object for TypeTag. */
     public static final TypeTag NULL = new TypeTag(NullType.class);
 
+    private final Class<?> type;
+    private final List<TypeTag> genericTypes;
+    private final int cachedHashCode;
+    private volatile Map<Field, TypeTag> fieldTags;
+
     /**
      * Constructor.
      *
@@ -42,6 +54,7 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
         }
         this.type = type;
         this.genericTypes = Collections.unmodifiableList(genericTypes);
+        this.cachedHashCode = calculateHashCode();
     }
 
     /**
@@ -53,6 +66,37 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
      * @return The TypeTag for the given field.
      */
     public static TypeTag of(Field field, TypeTag enclosingType) {
+        if (!field.getDeclaringClass().isAssignableFrom(enclosingType.getType())) {
+            return resolveField(field, enclosingType);
+        }
+        var memo = enclosingType.fieldTags();
+        var result = memo.get(field);
+        if (result == null) {
+            // Not computeIfAbsent, because resolving a field may resolve other fields of the same enclosing type
+            var resolved = resolveField(field, enclosingType);
+            result = memo.putIfAbsent(field, resolved);
+            if (result == null) {
+                result = resolved;
+            }
+        }
+        return result;
+    }
+
+    private Map<Field, TypeTag> fieldTags() {
+        var result = fieldTags;
+        if (result == null) {
+            synchronized (this) {
+                result = fieldTags;
+                if (result == null) {
+                    result = new ConcurrentHashMap<>();
+                    fieldTags = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static TypeTag resolveField(Field field, TypeTag enclosingType) {
         if (KotlinScreen.isKotlin(enclosingType.getType()) && KotlinScreen.isKotlinLazy(field)) {
             var opt = KotlinProbe.determineLazyType(enclosingType.getType(), field);
             if (opt.isPresent()) {
@@ -184,6 +228,46 @@ public final record TypeTag(Class<?> type, List<TypeTag> genericTypes) {
         return (Class<T>) type;
     }
 
+    /**
+     * Returns the TypeTag's raw type.
+     *
+     * @return The TypeTag's raw type.
+     */
+    public Class<?> type() {
+        return type;
+    }
+
+    /**
+     * Returns the TypeTags of the TypeTag's generic type parameters.
+     *
+     * @return A list of TypeTags for each generic type parameter.
+     */
+    public List<TypeTag> genericTypes() {
+        return genericTypes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof TypeTag other
+                && cachedHashCode == other.cachedHashCode
+                && type.equals(other.type)
+                && genericTypes.equals(other.genericTypes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return cachedHashCode;
+    }
+
+    private int calculateHashCode() {
+        return Objects.hash(type, genericTypes);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
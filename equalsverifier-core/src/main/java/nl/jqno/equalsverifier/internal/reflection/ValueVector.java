@@ -0,0 +1,125 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+
+/**
+ * Contains values for the instance fields of a class, indexed by the slots from {@link FieldSlots}. A slot that holds
+ * {@code null} is absent; an instance gets its type's default value for those fields: null for object references, 0
+ * for numbers, false for booleans.
+ *
+ * <p>
+ * A ValueVector is mutable, so it shouldn't be shared unless nothing will modify it anymore. Use {@link #copy()} to
+ * derive a new vector from an existing one.
+ */
+public final class ValueVector {
+
+    private final FieldSlots slots;
+    private final Object[] values;
+
+    private ValueVector(FieldSlots slots, Object[] values) {
+        this.slots = slots;
+        this.values = values;
+    }
+
+    /**
+     * Factory method for a vector in which all slots are absent.
+     *
+     * @param slots The slots of the vector.
+     * @return An empty vector.
+     */
+    public static ValueVector empty(FieldSlots slots) {
+        return new ValueVector(slots, new Object[slots.size()]);
+    }
+
+    /**
+     * Factory method for a vector with the values from the given map. Fields that don't belong to {@code slots} are
+     * ignored.
+     *
+     * @param slots  The slots of the vector.
+     * @param values The values to assign to the slots.
+     * @return A vector with the given values.
+     */
+    public static ValueVector of(FieldSlots slots, Map<Field, Object> values) {
+        var result = empty(slots);
+        for (Map.Entry<Field, Object> entry : values.entrySet()) {
+            result.set(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Returns the slots of this vector.
+     *
+     * @return The slots of this vector.
+     */
+    public FieldSlots slots() {
+        return slots;
+    }
+
+    /**
+     * Returns a vector with the given slots, containing the values of this vector for the fields that both have in
+     * common. If the slots are the same as this vector's, this vector itself is returned.
+     *
+     * @param target The slots of the returned vector.
+     * @return A vector with the given slots.
+     */
+    public ValueVector in(FieldSlots target) {
+        if (target == slots) {
+            return this;
+        }
+        var result = empty(target);
+        for (int i = 0; i < values.length; i = i + 1) {
+            if (values[i] != null) {
+                result.set(slots.field(i), values[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new vector with the same values as this one.
+     *
+     * @return A copy of this vector.
+     */
+    public ValueVector copy() {
+        return new ValueVector(slots, values.clone());
+    }
+
+    /**
+     * Returns the value in the given slot.
+     *
+     * @param index The slot.
+     * @return The value in the given slot, or {@code null} if it's absent.
+     */
+    public Object get(int index) {
+        return values[index];
+    }
+
+    /**
+     * Assigns a value to the given slot.
+     *
+     * @param index The slot.
+     * @param value The value to assign.
+     * @return This vector.
+     */
+    public ValueVector set(int index, Object value) {
+        values[index] = value;
+        return this;
+    }
+
+    /**
+     * Assigns a value to the slot of the given field, if the field belongs to the slots of this vector.
+     *
+     * @param field The field.
+     * @param value The value to assign.
+     * @return This vector.
+     */
+    public ValueVector set(Field field, Object value) {
+        int index = slots.indexOf(field);
+        if (index >= 0) {
+            set(index, value);
+        }
+        return this;
+    }
+}
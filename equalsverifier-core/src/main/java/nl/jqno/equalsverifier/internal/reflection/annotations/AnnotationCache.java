@@ -1,11 +1,13 @@
 package nl.jqno.equalsverifier.internal.reflection.annotations;
 
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class AnnotationCache {
 
-    private final Map<Class<?>, AnnotationClassCache> cache = new HashMap<>();
+    private final Map<Class<?>, AnnotationClassCache> cache = new ConcurrentHashMap<>();
 
     public boolean hasResolved(Class<?> type) {
         return cache.containsKey(type);
@@ -20,23 +22,30 @@ public class AnnotationCache {
     }
 
     public void addClassAnnotation(Class<?> type, Annotation annotation) {
-        ensureEntry(type);
-        cache.get(type).addClassAnnotation(annotation);
+        entry(type).addClassAnnotation(annotation);
     }
 
     public void addField(Class<?> type, String fieldName) {
-        ensureEntry(type);
-        cache.get(type).addField(fieldName);
+        entry(type).addField(fieldName);
     }
 
     public void addFieldAnnotation(Class<?> type, String fieldName, Annotation annotation) {
-        ensureEntry(type);
-        cache.get(type).addFieldAnnotation(fieldName, annotation);
+        entry(type).addFieldAnnotation(fieldName, annotation);
     }
 
-    private void ensureEntry(Class<?> type) {
-        if (!hasResolved(type)) {
-            cache.put(type, new AnnotationClassCache());
-        }
+    public Set<Class<?>> types() {
+        return Collections.unmodifiableSet(cache.keySet());
+    }
+
+    public Set<Annotation> classAnnotations(Class<?> type) {
+        return cache.get(type).classAnnotations();
+    }
+
+    public Map<String, Set<Annotation>> fieldAnnotations(Class<?> type) {
+        return cache.get(type).fieldAnnotations();
+    }
+
+    private AnnotationClassCache entry(Class<?> type) {
+        return cache.computeIfAbsent(type, t -> new AnnotationClassCache());
     }
 }
@@ -1,7 +1,15 @@
 package nl.jqno.equalsverifier.internal.reflection.annotations;
 
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.*;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import net.bytebuddy.description.annotation.AnnotationDescription;
 import net.bytebuddy.description.enumeration.EnumerationDescription;
@@ -18,8 +26,33 @@ public class AnnotationCacheBuilder {
     private final List<Annotation> supportedAnnotations;
     private final List<String> partialAnnotationNames;
     private final Set<String> ignoredAnnotations;
+    private final Function<ClassLoader, TypePool> pools;
+    private final Predicate<Class<?>> needsBytecode;
 
     public AnnotationCacheBuilder(Annotation[] supportedAnnotations, Set<String> ignoredAnnotations) {
+        this(supportedAnnotations, ignoredAnnotations, TypePool.Default::of, type -> true);
+    }
+
+    /**
+     * Constructor.
+     *
+     * <p>
+     * Annotations are read through reflection, unless {@code needsBytecode} says that the class, or a class that it
+     * inherits annotations from, may carry annotations that reflection can't see, or if reflection fails. In those
+     * cases, the class files are parsed instead.
+     *
+     * @param supportedAnnotations The annotations to look for.
+     * @param ignoredAnnotations   The canonical names of the annotations to ignore.
+     * @param pools                Provides the TypePool to parse the class files of a given class loader with.
+     * @param needsBytecode        Whether the class files of a given class must be parsed.
+     */
+    public AnnotationCacheBuilder(
+            Annotation[] supportedAnnotations,
+            Set<String> ignoredAnnotations,
+            Function<ClassLoader, TypePool> pools,
+            Predicate<Class<?>> needsBytecode) {
+        this.pools = pools;
+        this.needsBytecode = needsBytecode;
         this.supportedAnnotations = Arrays.asList(supportedAnnotations);
         this.partialAnnotationNames =
                 this.supportedAnnotations.stream().flatMap(a -> a.partialClassNames().stream()).toList();
@@ -30,9 +63,12 @@ public class AnnotationCacheBuilder {
         if (cache.hasResolved(type)) {
             return;
         }
+        if (!needsBytecode.test(type) && buildReflectively(type, cache)) {
+            return;
+        }
 
         try {
-            TypePool pool = TypePool.Default.of(type.getClassLoader());
+            TypePool pool = pools.apply(type.getClassLoader());
             TypeDescription typeDescription = pool.describe(type.getName()).resolve();
 
             visitType(Set.of(type), cache, typeDescription, false);
@@ -45,6 +81,73 @@ public class AnnotationCacheBuilder {
         }
     }
 
+    private boolean buildReflectively(Class<?> type, AnnotationCache cache) {
+        try {
+            visitTypeReflectively(Set.of(type), cache, type, false);
+            for (Class<?> c : SuperclassIterable.of(type)) {
+                visitTypeReflectively(Set.of(type, c), cache, c, true);
+            }
+            Class<?> outer = type.getDeclaringClass();
+            while (outer != null) {
+                visitTypeReflectively(Set.of(type, outer), cache, outer, false);
+                outer = outer.getDeclaringClass();
+            }
+            Package pkg = type.getPackage();
+            if (pkg != null) {
+                visitAnnotations(Set.of(type), cache, pkg, a -> cache.addClassAnnotation(type, a), false);
+            }
+            return true;
+        }
+        catch (RuntimeException | LinkageError e) {
+            // For instance, because an annotation refers to a class that isn't available. The class files may still
+            // be readable, though.
+            return false;
+        }
+    }
+
+    private void visitTypeReflectively(
+            Set<Class<?>> types,
+            AnnotationCache cache,
+            Class<?> type,
+            boolean inheriting) {
+        visitAnnotations(types, cache, type, a -> types.forEach(t -> cache.addClassAnnotation(t, a)), inheriting);
+
+        for (Field f : type.getDeclaredFields()) {
+            Consumer<Annotation> addToCache = a -> types.forEach(t -> cache.addFieldAnnotation(t, f.getName(), a));
+            visitAnnotations(types, cache, f, addToCache, inheriting);
+            visitAnnotations(types, cache, f.getAnnotatedType(), addToCache, inheriting);
+        }
+
+        for (Method m : type.getDeclaredMethods()) {
+            String methodName = m.getName();
+            if (!methodName.startsWith("get") || methodName.length() <= 3) {
+                continue;
+            }
+            String correspondingFieldName = Character.toLowerCase(methodName.charAt(3)) + methodName.substring(4);
+            Consumer<Annotation> addToCache =
+                    a -> types.forEach(t -> cache.addFieldAnnotation(t, correspondingFieldName, a));
+            visitAnnotations(types, cache, m, addToCache, inheriting);
+        }
+    }
+
+    private void visitAnnotations(
+            Set<Class<?>> types,
+            AnnotationCache cache,
+            AnnotatedElement element,
+            Consumer<Annotation> addToCache,
+            boolean inheriting) {
+        for (java.lang.annotation.Annotation a : element.getDeclaredAnnotations()) {
+            String canonicalName = a.annotationType().getCanonicalName();
+            cacheSupportedAnnotations(
+                canonicalName,
+                () -> buildAnnotationProperties(a),
+                types,
+                cache,
+                addToCache,
+                inheriting);
+        }
+    }
+
     private void visitType(
             Set<Class<?>> types,
             AnnotationCache cache,
@@ -138,18 +241,35 @@ public class AnnotationCacheBuilder {
             AnnotationCache cache,
             Consumer<Annotation> addToCache,
             boolean inheriting) {
-        if (ignoredAnnotations.contains(annotation.getAnnotationType().getCanonicalName())) {
+        String canonicalName = annotation.getAnnotationType().getCanonicalName();
+        cacheSupportedAnnotations(
+            canonicalName,
+            () -> buildAnnotationProperties(annotation),
+            types,
+            cache,
+            addToCache,
+            inheriting);
+    }
+
+    private void cacheSupportedAnnotations(
+            String canonicalName,
+            Supplier<AnnotationProperties> properties,
+            Set<Class<?>> types,
+            AnnotationCache cache,
+            Consumer<Annotation> addToCache,
+            boolean inheriting) {
+        if (canonicalName == null || ignoredAnnotations.contains(canonicalName)) {
             return;
         }
-        if (!matches(annotation)) {
+        if (!matches(canonicalName)) {
             return;
         }
 
         Consumer<Annotation> postProcess = a -> a.postProcess(types, cache);
-        AnnotationProperties props = buildAnnotationProperties(annotation);
+        AnnotationProperties props = properties.get();
 
         for (Annotation sa : supportedAnnotations) {
-            if (matches(annotation, sa)
+            if (matches(canonicalName, sa)
                     && (!inheriting || sa.inherits())
                     && sa.validate(props, cache, ignoredAnnotations)) {
                 addToCache.andThen(postProcess).accept(sa);
@@ -157,11 +277,7 @@ public class AnnotationCacheBuilder {
         }
     }
 
-    private boolean matches(AnnotationDescription foundAnnotation) {
-        String canonicalName = foundAnnotation.getAnnotationType().getCanonicalName();
-        if (canonicalName == null) {
-            return false;
-        }
+    private boolean matches(String canonicalName) {
         for (String partial : partialAnnotationNames) {
             if (canonicalName.endsWith(partial)) {
                 return true;
@@ -170,11 +286,7 @@ public class AnnotationCacheBuilder {
         return false;
     }
 
-    private boolean matches(AnnotationDescription foundAnnotation, Annotation supportedAnnotation) {
-        String canonicalName = foundAnnotation.getAnnotationType().getCanonicalName();
-        if (canonicalName == null) {
-            return false;
-        }
+    private boolean matches(String canonicalName, Annotation supportedAnnotation) {
         return supportedAnnotation.partialClassNames().stream().anyMatch(canonicalName::endsWith);
     }
 
@@ -190,6 +302,21 @@ public class AnnotationCacheBuilder {
         return props;
     }
 
+    private AnnotationProperties buildAnnotationProperties(java.lang.annotation.Annotation annotation) {
+        AnnotationProperties props = new AnnotationProperties(annotation.annotationType().getCanonicalName());
+        for (Method m : annotation.annotationType().getDeclaredMethods()) {
+            m.setAccessible(true);
+            Object val = rethrow(() -> m.invoke(annotation));
+            String name = m.getName();
+
+            if (val instanceof Enum<?> e) {
+                props.putEnumValue(name, e.name());
+            }
+            addArrayProperties(val, name, props);
+        }
+        return props;
+    }
+
     private void addEnumProperties(Object val, String name, AnnotationProperties props) {
         if (val instanceof EnumerationDescription e) {
             props.putEnumValue(name, e.getValue());
@@ -204,6 +331,12 @@ public class AnnotationCacheBuilder {
                 if (obj instanceof TypeDescription description) {
                     values.add(description.getName());
                 }
+                else if (obj instanceof Class<?> c) {
+                    values.add(c.getName());
+                }
+                else if (obj instanceof Enum<?> e) {
+                    values.add(e.name());
+                }
                 else {
                     values.add(obj.toString());
                 }
@@ -1,14 +1,14 @@
 package nl.jqno.equalsverifier.internal.reflection.annotations;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 class AnnotationClassCache {
 
-    private final Set<Annotation> classAnnotations = new HashSet<>();
-    private final Map<String, Set<Annotation>> fieldAnnotations = new HashMap<>();
+    private final Set<Annotation> classAnnotations = ConcurrentHashMap.newKeySet();
+    private final Map<String, Set<Annotation>> fieldAnnotations = new ConcurrentHashMap<>();
 
     public AnnotationClassCache() {}
 
@@ -17,7 +17,8 @@ class AnnotationClassCache {
     }
 
     public boolean hasFieldAnnotation(String fieldName, Annotation annotation) {
-        return fieldAnnotations.containsKey(fieldName) && fieldAnnotations.get(fieldName).contains(annotation);
+        var annotations = fieldAnnotations.get(fieldName);
+        return annotations != null && annotations.contains(annotation);
     }
 
     public void addClassAnnotation(Annotation annotation) {
@@ -25,13 +26,18 @@ class AnnotationClassCache {
     }
 
     public void addField(String fieldName) {
-        fieldAnnotations.put(fieldName, new HashSet<>());
+        fieldAnnotations.put(fieldName, ConcurrentHashMap.newKeySet());
     }
 
     public void addFieldAnnotation(String fieldName, Annotation annotation) {
-        if (!fieldAnnotations.containsKey(fieldName)) {
-            addField(fieldName);
-        }
-        fieldAnnotations.get(fieldName).add(annotation);
+        fieldAnnotations.computeIfAbsent(fieldName, f -> ConcurrentHashMap.newKeySet()).add(annotation);
+    }
+
+    public Set<Annotation> classAnnotations() {
+        return Collections.unmodifiableSet(classAnnotations);
+    }
+
+    public Map<String, Set<Annotation>> fieldAnnotations() {
+        return Collections.unmodifiableMap(fieldAnnotations);
     }
 }
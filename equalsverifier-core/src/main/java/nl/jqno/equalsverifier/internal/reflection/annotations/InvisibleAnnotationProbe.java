@@ -0,0 +1,112 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+
+/**
+ * Determines whether a class may carry annotations that can't be read through reflection, because they don't have
+ * RUNTIME retention.
+ *
+ * <p>
+ * EqualsVerifier matches annotations by their simple name, so an annotation that a user wrote themselves counts just as
+ * much as one from a well-known library. Therefore, it's not enough to look at the class path: the class files
+ * themselves must be checked. An annotation without RUNTIME retention is stored in a
+ * {@code RuntimeInvisibleAnnotations} or {@code RuntimeInvisibleTypeAnnotations} attribute, and the name of that
+ * attribute is stored in the class file's constant pool. If that name doesn't occur in the class file, reflection sees
+ * all the annotations that the class file contains.
+ *
+ * <p>
+ * The check is conservative: if the name occurs for another reason, for instance in a string constant, or if the
+ * class file can't be found, the class is assumed to carry such annotations.
+ */
+final class InvisibleAnnotationProbe {
+
+    private static final byte[] MARKER = "RuntimeInvisible".getBytes(StandardCharsets.US_ASCII);
+
+    private static final ClassValue<Boolean> CLASS_FILE_CACHE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return mayContainInvisibleAnnotations(locate(type.getClassLoader(), type.getName()));
+        }
+    };
+
+    private static final ClassValue<Boolean> CACHE = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return computeMayHaveInvisibleAnnotations(type);
+        }
+    };
+
+    private InvisibleAnnotationProbe() {
+        // Do not instantiate
+    }
+
+    /**
+     * Probes the given class, and the classes that it inherits annotations from: its superclasses, its outer classes
+     * and its {@code package-info}.
+     *
+     * @param type The class to probe.
+     * @return Whether the given class, or a class that it inherits annotations from, may carry annotations that aren't
+     *             visible at runtime.
+     */
+    static boolean mayHaveInvisibleAnnotations(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    private static boolean computeMayHaveInvisibleAnnotations(Class<?> type) {
+        if (CLASS_FILE_CACHE.get(type)) {
+            return true;
+        }
+        for (Class<?> c : SuperclassIterable.of(type)) {
+            if (CLASS_FILE_CACHE.get(c)) {
+                return true;
+            }
+        }
+        for (Class<?> outer = type.getDeclaringClass(); outer != null; outer = outer.getDeclaringClass()) {
+            if (CLASS_FILE_CACHE.get(outer)) {
+                return true;
+            }
+        }
+        Package pkg = type.getPackage();
+        if (pkg == null) {
+            return false;
+        }
+        byte[] packageInfo = locate(type.getClassLoader(), pkg.getName() + ".package-info");
+        // Most packages don't have a package-info
+        return packageInfo != null && mayContainInvisibleAnnotations(packageInfo);
+    }
+
+    private static boolean mayContainInvisibleAnnotations(byte[] classFile) {
+        if (classFile == null) {
+            return true;
+        }
+        for (int i = 0; i <= classFile.length - MARKER.length; i = i + 1) {
+            if (startsWithMarker(classFile, i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean startsWithMarker(byte[] classFile, int offset) {
+        for (int j = 0; j < MARKER.length; j = j + 1) {
+            if (classFile[offset + j] != MARKER[j]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] locate(ClassLoader loader, String className) {
+        try {
+            ClassFileLocator.Resolution resolution = ClassFileLocator.ForClassLoader.of(loader).locate(className);
+            return resolution.isResolved() ? resolution.resolve() : null;
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.bytebuddy.pool.TypePool;
+import nl.jqno.equalsverifier.internal.reflection.ClassFileStamps;
+
+/**
+ * Contains the annotation caches of the classes that are verified with the same {@code ConfiguredEqualsVerifier}, and
+ * the TypePools that they were built with. This way, the class files of superclasses, outer classes and
+ * {@code package-info} classes that several verified classes have in common are parsed only once. Likewise, it contains
+ * the stamps with which persisted annotation caches are checked, so those class files are stamped only once.
+ *
+ * <p>
+ * An annotation cache only depends on the class and on the annotations that are ignored, so it doesn't need to be
+ * replaced when the rest of the configuration changes. Different classes may build their caches concurrently.
+ *
+ * <p>
+ * Annotations are read through reflection where possible, so most classes don't need to have their class files parsed
+ * at all. Whether that's possible is determined per class, by {@link InvisibleAnnotationProbe}.
+ */
+public class SharedAnnotationCaches {
+
+    // ConcurrentHashMap doesn't allow null keys, so the bootstrap class loader needs a stand-in.
+    private static final Object BOOTSTRAP_LOADER = new Object();
+
+    private final Map<Object, TypePool> pools = new ConcurrentHashMap<>();
+    private final Map<Key, AnnotationCache> caches = new ConcurrentHashMap<>();
+    private final ClassFileStamps classFileStamps = new ClassFileStamps();
+
+    /**
+     * Returns the annotation cache for the given class, building it if it doesn't exist yet.
+     *
+     * @param type               The class whose annotations to scan.
+     * @param ignoredAnnotations The canonical names of the annotations to ignore.
+     * @return The annotation cache for the given class.
+     */
+    public AnnotationCache get(Class<?> type, Set<String> ignoredAnnotations) {
+        var key = new Key(type, Set.copyOf(ignoredAnnotations));
+        var result = caches.get(key);
+        if (result == null) {
+            // Building the cache can take a while, so don't block other classes while it happens. If another thread
+            // builds the same cache in the meantime, its cache is just as good.
+            var created = new AnnotationCache();
+            var builder = new AnnotationCacheBuilder(SupportedAnnotations.values(),
+                    key.ignoredAnnotations,
+                    this::pool,
+                    this::needsBytecode);
+            builder.build(type, created);
+            var existing = caches.putIfAbsent(key, created);
+            result = existing == null ? created : existing;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the stamps of the class files of the classes that are verified, and of the classes they depend on.
+     *
+     * @return The stamps of the class files.
+     */
+    public ClassFileStamps classFileStamps() {
+        return classFileStamps;
+    }
+
+    /**
+     * Returns the TypePool for the given class loader.
+     *
+     * @param loader A class loader, or {@code null} for the bootstrap class loader.
+     * @return The TypePool for the given class loader.
+     */
+    TypePool pool(ClassLoader loader) {
+        Object key = Objects.requireNonNullElse(loader, BOOTSTRAP_LOADER);
+        var result = pools.get(key);
+        if (result == null) {
+            // TypePool.Default caches the descriptions that it parses, and is safe to use concurrently
+            var created = TypePool.Default.of(loader);
+            var existing = pools.putIfAbsent(key, created);
+            result = existing == null ? created : existing;
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the class files of the given class must be parsed to find all supported annotations.
+     *
+     * @param type A class.
+     * @return Whether the class files of the given class must be parsed.
+     */
+    boolean needsBytecode(Class<?> type) {
+        return InvisibleAnnotationProbe.mayHaveInvisibleAnnotations(type);
+    }
+
+    private record Key(Class<?> type, Set<String> ignoredAnnotations) {}
+}
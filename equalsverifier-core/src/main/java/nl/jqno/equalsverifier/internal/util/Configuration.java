@@ -1,6 +1,8 @@
 package nl.jqno.equalsverifier.internal.util;
 
+import java.nio.file.Path;
 import java.util.EnumSet;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.BiFunction;
@@ -9,12 +11,14 @@ import java.util.stream.Collectors;
 
 import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.ModeInstance;
 import nl.jqno.equalsverifier.internal.reflection.FieldIterable;
 import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import nl.jqno.equalsverifier.internal.reflection.annotations.*;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinProbe;
 import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
+import nl.jqno.equalsverifier.internal.util.PersistentMetadataCache.Metadata;
 
 // CHECKSTYLE OFF: ParameterNumber
 public record Configuration<T>(Class<T> type, TypeTag typeTag, Set<String> ignoredFields, Set<String> nonnullFields,
@@ -38,11 +42,21 @@ public record Configuration<T>(Class<T> type, TypeTag typeTag, Set<String> ignor
             Set<Mode> modes,
             Function<String, String> fieldnameToGetter,
             Set<String> ignoredAnnotationClassNames,
+            SharedAnnotationCaches annotationCaches,
             Set<String> actualFields,
             List<T> equalExamples,
             List<T> unequalExamples) {
         TypeTag typeTag = new TypeTag(type);
-        AnnotationCache annotationCache = buildAnnotationCache(type, ignoredAnnotationClassNames);
+        boolean isKotlin = KotlinScreen.isKotlin(type);
+        Path cacheDirectory = ModeInstance.persistentCacheDirectory(modes);
+        Metadata metadata = cacheDirectory == null
+                ? deriveMetadata(type, isKotlin, ignoredAnnotationClassNames, annotationCaches)
+                : new PersistentMetadataCache(cacheDirectory, annotationCaches.classFileStamps())
+                        .get(
+                            type,
+                            ignoredAnnotationClassNames,
+                            () -> deriveMetadata(type, isKotlin, ignoredAnnotationClassNames, annotationCaches));
+        AnnotationCache annotationCache = metadata.annotationCache();
         Set<String> ignoredFields = determineIgnoredFields(
             type,
             annotationCache,
@@ -52,19 +66,12 @@ public record Configuration<T>(Class<T> type, TypeTag typeTag, Set<String> ignor
             actualFields);
         Function<String, String> converter =
                 fieldnameToGetter != null ? fieldnameToGetter : Configuration::defaulFieldNameToGetterConverter;
-        boolean isKotlin = KotlinScreen.isKotlin(type);
 
-        if (isKotlin) {
-            for (FieldProbe f : FieldIterable.ofKotlin(type)) {
-                if (KotlinScreen.canProbe()
-                        && KotlinProbe.isDataClass(type)
-                        && !KotlinProbe.isDeclaredInPrimaryConstructor(f.getField())) {
-                    ignoredFields.add(f.getName());
-                }
-                if (KotlinScreen.isSyntheticKotlinDelegate(f.getField())) {
-                    nonnullFields.add(f.getName());
-                }
-            }
+        if (!metadata.kotlinIgnoredFields().isEmpty()) {
+            ignoredFields.addAll(metadata.kotlinIgnoredFields());
+        }
+        if (!metadata.kotlinNonnullFields().isEmpty()) {
+            nonnullFields.addAll(metadata.kotlinNonnullFields());
         }
 
         return new Configuration<>(type,
@@ -85,12 +92,27 @@ public record Configuration<T>(Class<T> type, TypeTag typeTag, Set<String> ignor
                 unequalExamples);
     }
 
-    private static <T> AnnotationCache buildAnnotationCache(Class<T> type, Set<String> ignoredAnnotationClassNames) {
-        AnnotationCacheBuilder acb =
-                new AnnotationCacheBuilder(SupportedAnnotations.values(), ignoredAnnotationClassNames);
-        AnnotationCache cache = new AnnotationCache();
-        acb.build(type, cache);
-        return cache;
+    private static Metadata deriveMetadata(
+            Class<?> type,
+            boolean isKotlin,
+            Set<String> ignoredAnnotationClassNames,
+            SharedAnnotationCaches annotationCaches) {
+        AnnotationCache annotationCache = annotationCaches.get(type, ignoredAnnotationClassNames);
+        Set<String> kotlinIgnoredFields = new HashSet<>();
+        Set<String> kotlinNonnullFields = new HashSet<>();
+        if (isKotlin) {
+            for (FieldProbe f : FieldIterable.ofKotlin(type)) {
+                if (KotlinScreen.canProbe()
+                        && KotlinProbe.isDataClass(type)
+                        && !KotlinProbe.isDeclaredInPrimaryConstructor(f.getField())) {
+                    kotlinIgnoredFields.add(f.getName());
+                }
+                if (KotlinScreen.isSyntheticKotlinDelegate(f.getField())) {
+                    kotlinNonnullFields.add(f.getName());
+                }
+            }
+        }
+        return new Metadata(annotationCache, kotlinIgnoredFields, kotlinNonnullFields);
     }
 
     private static <T> Set<String> determineIgnoredFields(
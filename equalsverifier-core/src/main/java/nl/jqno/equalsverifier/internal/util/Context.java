@@ -2,6 +2,7 @@ package nl.jqno.equalsverifier.internal.util;
 
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
 import nl.jqno.equalsverifier.internal.valueproviders.SubjectCreator;
 import nl.jqno.equalsverifier.internal.valueproviders.UserPrefabValueCaches;
 import nl.jqno.equalsverifier.internal.valueproviders.ValueProvider;
@@ -20,14 +21,15 @@ public final class Context<T> {
             Configuration<T> configuration,
             UserPrefabValueCaches userPrefabs,
             FieldCache fieldCache,
+            TypeCache typeCache,
             Objenesis objenesis) {
         this.type = configuration.type();
         this.configuration = configuration;
         this.classProbe = ClassProbe.of(configuration.type());
         var modes = configuration.modes();
 
-        this.valueProvider = ValueProviderBuilder.build(modes, userPrefabs, fieldCache, objenesis);
-        this.subjectCreator = new SubjectCreator<>(configuration, this.valueProvider, objenesis);
+        this.valueProvider = ValueProviderBuilder.build(modes, userPrefabs, fieldCache, typeCache, objenesis);
+        this.subjectCreator = new SubjectCreator<>(configuration, this.valueProvider, userPrefabs, objenesis);
     }
 
     public Class<T> getType() {
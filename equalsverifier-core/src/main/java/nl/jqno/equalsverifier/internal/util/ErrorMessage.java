@@ -25,7 +25,7 @@ public final class ErrorMessage {
                 .format();
     }
 
-    private static String getVersion() {
+    static String getVersion() {
         var props = new Properties();
         try (var is = ErrorMessage.class.getResourceAsStream("/version.properties")) {
             props.load(is);
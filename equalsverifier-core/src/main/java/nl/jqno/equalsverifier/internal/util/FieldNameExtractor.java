@@ -9,15 +9,22 @@ import nl.jqno.equalsverifier.internal.reflection.FieldProbe;
 
 public final class FieldNameExtractor {
 
-    private FieldNameExtractor() {}
+    private static final ClassValue<Set<String>> FIELD_NAMES = new ClassValue<>() {
+        @Override
+        protected Set<String> computeValue(Class<?> type) {
+            var actualFieldNames = new HashSet<String>();
+            for (FieldProbe p : FieldIterable.of(type)) {
+                String name = p.getName();
+                actualFieldNames.add(name);
+            }
 
-    public static <T> Set<String> extractFieldNames(Class<T> type) {
-        var actualFieldNames = new HashSet<String>();
-        for (FieldProbe p : FieldIterable.of(type)) {
-            String name = p.getName();
-            actualFieldNames.add(name);
+            return Collections.unmodifiableSet(actualFieldNames);
         }
+    };
 
-        return Collections.unmodifiableSet(actualFieldNames);
+    private FieldNameExtractor() {}
+
+    public static <T> Set<String> extractFieldNames(Class<T> type) {
+        return FIELD_NAMES.get(type);
     }
 }
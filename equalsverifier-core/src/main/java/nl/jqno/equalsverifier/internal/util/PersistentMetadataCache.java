@@ -0,0 +1,445 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.function.Supplier;
+
+import net.bytebuddy.dynamic.ClassFileLocator;
+import net.bytebuddy.jar.asm.AnnotationVisitor;
+import net.bytebuddy.jar.asm.ClassReader;
+import net.bytebuddy.jar.asm.ClassVisitor;
+import net.bytebuddy.jar.asm.FieldVisitor;
+import net.bytebuddy.jar.asm.MethodVisitor;
+import net.bytebuddy.jar.asm.Type;
+import net.bytebuddy.jar.asm.TypePath;
+import net.bytebuddy.utility.OpenedClassReader;
+import nl.jqno.equalsverifier.internal.reflection.ClassFileStamps;
+import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
+import nl.jqno.equalsverifier.internal.reflection.annotations.Annotation;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import nl.jqno.equalsverifier.internal.reflection.kotlin.KotlinScreen;
+
+/**
+ * Stores the facts that {@link Configuration} derives from the bytecode of a class in a directory, so that other JVMs
+ * can reuse them.
+ *
+ * <p>
+ * Each class has its own file, named after a hash of the class's name and of the annotations that are ignored. The file
+ * starts with the version of EqualsVerifier and a list of the class files that the facts were derived from, each with
+ * its {@link ClassFileStamps stamp}: the class files of the class, its superclasses, its outer classes and its
+ * {@code package-info}, and the class files of the annotation types that these refer to. The annotation types matter
+ * because whether an annotation counts depends on them: for instance, an annotation that is itself marked
+ * {@code @Nonnull} and {@code @TypeQualifierDefault} makes all fields non-null, and an annotation type that can't be
+ * found is skipped. So are the annotation types that annotation types refer to, and so on. Only a new entry requires
+ * class files to be parsed, to find those annotation types. If a stamp doesn't match anymore, the entry is stale, so
+ * the facts are derived again and the file is replaced.
+ *
+ * <p>
+ * Files are written to a temporary file first, which then replaces the entry atomically, so other threads and JVMs
+ * never see a half-written entry. Any problem with the directory or its files makes the cache fall back to deriving
+ * the facts.
+ */
+final class PersistentMetadataCache {
+
+    private static final int MAGIC = 0x45564d43;
+    private static final int FORMAT_VERSION = 3;
+    private static final String PACKAGE_INFO = ".package-info";
+
+    private final Path directory;
+    private final ClassFileStamps stamps;
+
+    /**
+     * Constructor.
+     *
+     * @param directory The directory that contains the cache.
+     * @param stamps    Stamps the class files that the entries depend on.
+     */
+    PersistentMetadataCache(Path directory, ClassFileStamps stamps) {
+        this.directory = directory;
+        this.stamps = stamps;
+    }
+
+    /**
+     * The facts that are derived from the bytecode of a class.
+     *
+     * @param annotationCache     The annotations of the class, and of the classes it inherits annotations from.
+     * @param kotlinIgnoredFields The fields that are ignored because they aren't part of a Kotlin data class's primary
+     *                                constructor.
+     * @param kotlinNonnullFields The fields that are non-null because they're synthetic Kotlin delegates.
+     */
+    record Metadata(
+            AnnotationCache annotationCache,
+            Set<String> kotlinIgnoredFields,
+            Set<String> kotlinNonnullFields) {}
+
+    /**
+     * Returns the stored metadata for the given class, or derives and stores it if there is no up-to-date entry.
+     *
+     * @param type               The class to get the metadata for.
+     * @param ignoredAnnotations The canonical names of the annotations to ignore.
+     * @param derive             Derives the metadata from the class.
+     * @return The metadata for the given class.
+     */
+    Metadata get(Class<?> type, Set<String> ignoredAnnotations, Supplier<Metadata> derive) {
+        Path file = directory.resolve(entryName(type, ignoredAnnotations));
+        Metadata result = read(file, type.getClassLoader());
+        if (result == null) {
+            result = derive.get();
+            Map<String, String> dependencies = dependenciesOrNull(type);
+            if (dependencies != null) {
+                write(file, dependencies, result);
+            }
+        }
+        return result;
+    }
+
+    private static String entryName(Class<?> type, Set<String> ignoredAnnotations) {
+        var digest = rethrow(() -> MessageDigest.getInstance("SHA-256"));
+        update(digest, type.getName());
+        new TreeSet<>(ignoredAnnotations).forEach(a -> update(digest, a));
+        return HexFormat.of().formatHex(digest.digest()) + ".bin";
+    }
+
+    private static String environment() {
+        return ErrorMessage.getVersion() + " " + KotlinScreen.canProbe();
+    }
+
+    private Map<String, String> dependenciesOrNull(Class<?> type) {
+        try {
+            return dependencies(type);
+        }
+        catch (RuntimeException e) {
+            // For instance, because a class file is malformed
+            return null;
+        }
+    }
+
+    private Map<String, String> dependencies(Class<?> type) {
+        ClassLoader loader = type.getClassLoader();
+        ClassFileLocator locator = ClassFileLocator.ForClassLoader.of(loader);
+        var result = new LinkedHashMap<String, String>();
+        var classFiles = new ArrayDeque<byte[]>();
+        for (String name : sources(type)) {
+            byte[] bytes = locate(locator, name);
+            if (bytes == null && !name.endsWith(PACKAGE_INFO)) {
+                // For instance, because the class was generated at runtime
+                return null;
+            }
+            if (!addDependency(result, loader, name, bytes, classFiles)) {
+                return null;
+            }
+        }
+
+        // Follow the annotation types that the class files refer to, whether they can be found or not
+        while (!classFiles.isEmpty()) {
+            for (String name : AnnotationTypeCollector.collect(classFiles.remove())) {
+                if (!result.containsKey(name)
+                        && !addDependency(result, loader, name, locate(locator, name), classFiles)) {
+                    return null;
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean addDependency(
+            Map<String, String> dependencies,
+            ClassLoader loader,
+            String name,
+            byte[] bytes,
+            Queue<byte[]> classFiles) {
+        String stamp = stamps.of(loader, name);
+        if (stamp == null) {
+            return false;
+        }
+        dependencies.put(name, stamp);
+        if (bytes != null) {
+            classFiles.add(bytes);
+        }
+        return true;
+    }
+
+    private static List<String> sources(Class<?> type) {
+        var result = new ArrayList<String>();
+        result.add(type.getName());
+        for (Class<?> c : SuperclassIterable.of(type)) {
+            result.add(c.getName());
+        }
+        for (Class<?> outer = type.getDeclaringClass(); outer != null; outer = outer.getDeclaringClass()) {
+            result.add(outer.getName());
+        }
+        Package pkg = type.getPackage();
+        if (pkg != null) {
+            result.add(pkg.getName() + PACKAGE_INFO);
+        }
+        return result;
+    }
+
+    private static byte[] locate(ClassFileLocator locator, String className) {
+        try {
+            ClassFileLocator.Resolution resolution = locator.locate(className);
+            return resolution.isResolved() ? resolution.resolve() : null;
+        }
+        catch (IOException e) {
+            return null;
+        }
+    }
+
+    private Metadata read(Path file, ClassLoader loader) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                return null;
+            }
+            if (!environment().equals(readString(buffer))) {
+                return null;
+            }
+            int dependencyCount = buffer.getInt();
+            for (int i = 0; i < dependencyCount; i = i + 1) {
+                String name = readString(buffer);
+                if (!readString(buffer).equals(stamps.of(loader, name))) {
+                    // The class, one of the classes it inherits from, or one of the annotation types, has changed
+                    return null;
+                }
+            }
+
+            var annotationCache = new AnnotationCache();
+            int typeCount = buffer.getInt();
+            for (int i = 0; i < typeCount; i = i + 1) {
+                readType(buffer, annotationCache, loader);
+            }
+            return new Metadata(annotationCache, readStrings(buffer), readStrings(buffer));
+        }
+        catch (IOException | ClassNotFoundException | RuntimeException | LinkageError e) {
+            // The entry doesn't exist yet, or it's unreadable; either way, the metadata must be derived again
+            return null;
+        }
+    }
+
+    private static void readType(ByteBuffer buffer, AnnotationCache annotationCache, ClassLoader loader)
+            throws ClassNotFoundException {
+        Class<?> type = Class.forName(readString(buffer), false, loader);
+        for (String name : readStrings(buffer)) {
+            annotationCache.addClassAnnotation(type, SupportedAnnotations.valueOf(name));
+        }
+        int fieldCount = buffer.getInt();
+        for (int i = 0; i < fieldCount; i = i + 1) {
+            String fieldName = readString(buffer);
+            annotationCache.addField(type, fieldName);
+            for (String name : readStrings(buffer)) {
+                annotationCache.addFieldAnnotation(type, fieldName, SupportedAnnotations.valueOf(name));
+            }
+        }
+    }
+
+    private static Set<String> readStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        var result = new HashSet<String>();
+        for (int i = 0; i < count; i = i + 1) {
+            result.add(readString(buffer));
+        }
+        return result;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            // Don't allocate a huge array for a damaged entry
+            throw new BufferUnderflowException();
+        }
+        var bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void write(Path file, Map<String, String> dependencies, Metadata metadata) {
+        AnnotationCache annotationCache = metadata.annotationCache();
+        if (!isPersistable(annotationCache)) {
+            return;
+        }
+        Path temp = null;
+        try {
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                writeString(out, environment());
+                out.writeInt(dependencies.size());
+                for (Map.Entry<String, String> dependency : dependencies.entrySet()) {
+                    writeString(out, dependency.getKey());
+                    writeString(out, dependency.getValue());
+                }
+                Set<Class<?>> types = annotationCache.types();
+                out.writeInt(types.size());
+                for (Class<?> type : types) {
+                    writeType(out, annotationCache, type);
+                }
+                writeStrings(out, metadata.kotlinIgnoredFields());
+                writeStrings(out, metadata.kotlinNonnullFields());
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (IOException | RuntimeException e) {
+            // The cache is only an optimization, so carry on without it
+            deleteIfExists(temp);
+        }
+    }
+
+    private static boolean isPersistable(AnnotationCache annotationCache) {
+        for (Class<?> type : annotationCache.types()) {
+            if (!areSupported(annotationCache.classAnnotations(type))) {
+                return false;
+            }
+            for (Set<Annotation> annotations : annotationCache.fieldAnnotations(type).values()) {
+                if (!areSupported(annotations)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean areSupported(Set<Annotation> annotations) {
+        return annotations.stream().allMatch(SupportedAnnotations.class::isInstance);
+    }
+
+    private static void writeType(DataOutputStream out, AnnotationCache annotationCache, Class<?> type)
+            throws IOException {
+        writeString(out, type.getName());
+        writeAnnotations(out, annotationCache.classAnnotations(type));
+        Map<String, Set<Annotation>> fields = annotationCache.fieldAnnotations(type);
+        out.writeInt(fields.size());
+        for (Map.Entry<String, Set<Annotation>> entry : fields.entrySet()) {
+            writeString(out, entry.getKey());
+            writeAnnotations(out, entry.getValue());
+        }
+    }
+
+    private static void writeAnnotations(DataOutputStream out, Set<Annotation> annotations) throws IOException {
+        var names = new ArrayList<String>();
+        annotations.forEach(a -> names.add(((SupportedAnnotations) a).name()));
+        writeStrings(out, names);
+    }
+
+    private static void writeStrings(DataOutputStream out, Collection<String> strings) throws IOException {
+        out.writeInt(strings.size());
+        for (String s : strings) {
+            writeString(out, s);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void deleteIfExists(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        }
+        catch (IOException ignored) {
+            // Nothing more we can do
+        }
+    }
+
+    /** Collects the names of the annotation types that a class file refers to, including those on its members. */
+    private static final class AnnotationTypeCollector extends ClassVisitor {
+        private final Set<String> result = new LinkedHashSet<>();
+
+        private AnnotationTypeCollector() {
+            super(OpenedClassReader.ASM_API);
+        }
+
+        static Set<String> collect(byte[] classFile) {
+            var collector = new AnnotationTypeCollector();
+            OpenedClassReader
+                    .of(classFile)
+                    .accept(collector, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            return collector.result;
+        }
+
+        private AnnotationVisitor add(String descriptor) {
+            result.add(Type.getType(descriptor).getClassName());
+            return null;
+        }
+
+        @Override
+        public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+            return add(descriptor);
+        }
+
+        @Override
+        public AnnotationVisitor visitTypeAnnotation(
+                int typeRef,
+                TypePath typePath,
+                String descriptor,
+                boolean visible) {
+            return add(descriptor);
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            return new FieldVisitor(OpenedClassReader.ASM_API) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                    return add(annotationDescriptor);
+                }
+
+                @Override
+                public AnnotationVisitor visitTypeAnnotation(
+                        int typeRef,
+                        TypePath typePath,
+                        String annotationDescriptor,
+                        boolean visible) {
+                    return add(annotationDescriptor);
+                }
+            };
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+                int access,
+                String name,
+                String descriptor,
+                String signature,
+                String[] exceptions) {
+            return new MethodVisitor(OpenedClassReader.ASM_API) {
+                @Override
+                public AnnotationVisitor visitAnnotation(String annotationDescriptor, boolean visible) {
+                    return add(annotationDescriptor);
+                }
+
+                @Override
+                public AnnotationVisitor visitTypeAnnotation(
+                        int typeRef,
+                        TypePath typePath,
+                        String annotationDescriptor,
+                        boolean visible) {
+                    return add(annotationDescriptor);
+                }
+            };
+        }
+    }
+
+    private static void update(MessageDigest digest, String s) {
+        digest.update(s.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+}
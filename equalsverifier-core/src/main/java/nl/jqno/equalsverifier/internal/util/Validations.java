@@ -216,6 +216,13 @@ public final class Validations {
         validate(types.size() == 0, "package " + packageName + " doesn't contain any (non-Test) types.");
     }
 
+    public static void validateShard(int index, int count) {
+        validate(count < 1, "shard count must be at least 1, but was " + count + ".");
+        validate(
+            index < 0 || index >= count,
+            "shard index must be between 0 and " + (count - 1) + ", but was " + index + ".");
+    }
+
     public static void validateTypesAreKnown(Collection<Class<?>> types, List<Class<?>> knownTypes) {
         List<Class<?>> unknownTypes = types.stream().filter(t -> !knownTypes.contains(t)).toList();
         String message = "Unknown class(es) found: "
@@ -4,6 +4,7 @@ import java.util.Set;
 
 import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
 import nl.jqno.equalsverifier.internal.valueproviders.*;
 import org.objenesis.Objenesis;
 
@@ -14,6 +15,7 @@ public final class ValueProviderBuilder {
             Set<Mode> modes,
             UserPrefabValueCaches userPrefabCaches,
             FieldCache fieldCache,
+            TypeCache typeCache,
             Objenesis objenesis) {
 
         var recursionDetector = new RecursionDetectingValueProvider();
@@ -23,24 +25,28 @@ public final class ValueProviderBuilder {
         var builtinPrefabs = new BuiltinPrefabValueProvider();
         var builtinGenericPrefabs = new BuiltinGenericPrefabValueProvider(recursionDetector);
         var versionSpecificBuiltinPrefabs = new BuiltinVersionSpecificValueProvider(recursionDetector);
-        var mockito =
-                new MockitoValueProvider(!ExternalLibs.isMockitoAvailable() || modes.contains(Mode.skipMockito()));
+        var skipMockito = !ExternalLibs.isMockitoAvailable() || modes.contains(Mode.skipMockito());
+        var mockito = new MockitoValueProvider(skipMockito);
         var enumeration = new EnumValueProvider();
         var array = new ArrayValueProvider(recursionDetector);
         var abstr = new AbstractValueProvider(recursionDetector);
         var object = new ObjectValueProvider(recursionDetector, objenesis);
 
-        var mainChain = new ChainedValueProvider(userPrefabs,
-                userGenericPrefabs,
-                builtinPrefabs,
-                builtinGenericPrefabs,
-                versionSpecificBuiltinPrefabs,
-                enumeration,
-                array,
-                mockito,
-                abstr,
-                object);
-        var caching = new CachingValueProvider(userPrefabCaches, fieldCache, mainChain);
+        // User prefabs can change, so they're always checked first. The other providers always give the same answer
+        // for the same type, so the routing chain can skip the ones that didn't give a value for it before.
+        var builtinChain = ChainedValueProvider
+                .routing(
+                    builtinPrefabs,
+                    builtinGenericPrefabs,
+                    versionSpecificBuiltinPrefabs,
+                    enumeration,
+                    array,
+                    mockito,
+                    abstr,
+                    object);
+        var mainChain = new ChainedValueProvider(userPrefabs, userGenericPrefabs, builtinChain);
+        // Mocks mention the field they were generated for, so they can only be shared with fields of the same name
+        var caching = new CachingValueProvider(userPrefabCaches, fieldCache, typeCache, !skipMockito, mainChain);
 
         recursionDetector.setValueProvider(caching);
 
@@ -1,5 +1,7 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.LinkedHashSet;
 
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
@@ -8,20 +10,20 @@ import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 public final class Attributes {
     private final String cacheKey;
     private final String fieldName;
-    private final LinkedHashSet<TypeTag> typeStack;
+    private final TypeStack typeStack;
 
-    private Attributes(String cacheKey, String fieldName, LinkedHashSet<TypeTag> typeStack) {
+    private Attributes(String cacheKey, String fieldName, TypeStack typeStack) {
         this.cacheKey = cacheKey;
         this.fieldName = fieldName;
         this.typeStack = typeStack;
     }
 
     public static Attributes empty() {
-        return new Attributes(null, null, new LinkedHashSet<>());
+        return new Attributes(null, null, null);
     }
 
     public static Attributes named(String fieldName) {
-        return new Attributes(fieldName, fieldName, new LinkedHashSet<>());
+        return new Attributes(fieldName, fieldName, null);
     }
 
     public String cacheKey() {
@@ -29,7 +31,10 @@ public final class Attributes {
     }
 
     public Attributes clearCacheKey() {
-        return new Attributes(null, fieldName, typeStack());
+        if (cacheKey == null) {
+            return this;
+        }
+        return new Attributes(null, fieldName, typeStack);
     }
 
     public String fieldName() {
@@ -37,20 +42,58 @@ public final class Attributes {
     }
 
     public Attributes addToStack(TypeTag tag) {
-        var newStack = copyTypeStack();
-        newStack.add(tag);
-        return new Attributes(cacheKey, fieldName, newStack);
+        return new Attributes(cacheKey, fieldName, new TypeStack(tag, typeStack));
     }
 
     public boolean typeStackContains(TypeTag tag) {
-        return typeStack.contains(tag);
+        return typeStack != null && typeStack.contains(tag);
     }
 
+    /**
+     * Returns a copy of the type stack, from the bottom up. This is relatively expensive, so it should only be used
+     * when the whole stack is needed; for instance, to construct an error message.
+     *
+     * @return A copy of the type stack.
+     */
     public LinkedHashSet<TypeTag> typeStack() {
-        return copyTypeStack();
+        Deque<TypeTag> reversed = new ArrayDeque<>();
+        for (TypeStack s = typeStack; s != null; s = s.parent) {
+            reversed.push(s.tag);
+        }
+        return new LinkedHashSet<>(reversed);
     }
 
-    private LinkedHashSet<TypeTag> copyTypeStack() {
-        return new LinkedHashSet<>(typeStack);
+    /**
+     * An immutable stack of types that can share its lower part with other stacks, so pushing a type doesn't require a
+     * copy. Each node keeps a 64-bit mask of the hash codes of all the types below it, so most lookups of types that
+     * aren't on the stack can be answered without walking it.
+     */
+    private static final class TypeStack {
+        private final TypeTag tag;
+        private final TypeStack parent;
+        private final long mask;
+
+        private TypeStack(TypeTag tag, TypeStack parent) {
+            this.tag = tag;
+            this.parent = parent;
+            this.mask = bit(tag) | (parent == null ? 0L : parent.mask);
+        }
+
+        private boolean contains(TypeTag t) {
+            if ((mask & bit(t)) == 0L) {
+                return false;
+            }
+            for (TypeStack s = this; s != null; s = s.parent) {
+                if (s.tag.equals(t)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static long bit(TypeTag t) {
+            // Only the lowest 6 bits of the distance are used, so this selects one of 64 bits
+            return Long.rotateLeft(1L, t.hashCode());
+        }
     }
 }
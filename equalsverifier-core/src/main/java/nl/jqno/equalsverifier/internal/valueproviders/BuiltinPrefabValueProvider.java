@@ -11,16 +11,33 @@ import nl.jqno.equalsverifier.internal.valueproviders.prefab.*;
 
 /**
  * A ValueProvider for non-generic, built-in prefab values.
+ *
+ * <p>
+ * The values for each type only depend on the type itself, so they are created once and then shared by all instances
+ * of this ValueProvider in the JVM.
  */
 public class BuiltinPrefabValueProvider implements ValueProvider {
 
+    private static final ClassValue<Optional<Tuple<?>>> VALUES = new ClassValue<>() {
+        @Override
+        protected Optional<Tuple<?>> computeValue(Class<?> type) {
+            return BuiltinPrefabValueProvider.<Object>supply(type).map(t -> t);
+        }
+    };
+
     /** {@inheritDoc}} */
     @Override
+    @SuppressWarnings("unchecked")
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
-        Class<T> type = tag.getType();
         if (!tag.genericTypes().isEmpty()) {
             return Optional.empty();
         }
+        return VALUES.get(tag.getType()).map(t -> (Tuple<T>) t);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Optional<Tuple<T>> supply(Class<?> rawType) {
+        Class<T> type = (Class<T>) rawType;
         if (PrimitiveMappers.DEFAULT_WRAPPED_VALUE_MAPPER.containsKey(type)) {
             return new PrimitiveValueSupplier<>(type).get();
         }
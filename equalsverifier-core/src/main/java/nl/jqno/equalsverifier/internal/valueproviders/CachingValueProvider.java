@@ -4,28 +4,51 @@ import java.util.Optional;
 
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 
 /**
  * Provides cached instances of classes. On a cache miss, a value is requested from the given fallback ValueProvider. If
  * it returns a value, this value is cached.
+ *
+ * <p>
+ * Values for fields are looked up in the field cache first, which contains the values that the user provided for
+ * specific fields. After that, they're looked up in the type cache, which may be shared with the verifications of
+ * other classes. Values that are needed to construct other values, such as the elements of a collection or the fields
+ * of an object, aren't linked to a field, so they're only looked up in the type cache.
+ *
+ * <p>
+ * Values of types that the user provided resettable prefab values for, are never cached, so the suppliers are called
+ * again every time.
  */
 public class CachingValueProvider implements ValueProvider {
 
     private final UserPrefabValueCaches prefabCaches;
     private final FieldCache fieldCache;
+    private final TypeCache typeCache;
+    private final boolean fieldSpecific;
     private final ValueProvider fallback;
 
     /**
      * Constructor.
      *
-     * @param decider    Decides whether a value should be cached or not.
-     * @param fieldCache The underlying cache of instances.
-     * @param fallback   The ValueProvider that provides instances when there's a cache miss.
+     * @param decider       Decides whether a value should be cached or not.
+     * @param fieldCache    The underlying cache of instances.
+     * @param typeCache     The cache of instances that may be shared with other verifications.
+     * @param fieldSpecific Whether the values from {@code fallback} can depend on the name of the field they're
+     *                          generated for.
+     * @param fallback      The ValueProvider that provides instances when there's a cache miss.
      */
-    public CachingValueProvider(UserPrefabValueCaches decider, FieldCache fieldCache, ValueProvider fallback) {
+    public CachingValueProvider(
+            UserPrefabValueCaches decider,
+            FieldCache fieldCache,
+            TypeCache typeCache,
+            boolean fieldSpecific,
+            ValueProvider fallback) {
         this.prefabCaches = decider;
         this.fieldCache = fieldCache;
+        this.typeCache = typeCache;
+        this.fieldSpecific = fieldSpecific;
         this.fallback = fallback;
     }
 
@@ -37,9 +60,19 @@ public class CachingValueProvider implements ValueProvider {
             return Optional.of(fieldCache.get(fieldName, tag));
         }
 
+        boolean canBeCached = prefabCaches.canBeCached(tag.getType());
+        var qualifier = fieldSpecific ? attributes.fieldName() : null;
+        if (canBeCached) {
+            Tuple<T> shared = typeCache.get(qualifier, tag);
+            if (shared != null) {
+                return Optional.of(fieldCache.putIfAbsent(fieldName, tag, shared));
+            }
+        }
+
         var result = fallback.<T>provide(tag, attributes.clearCacheKey());
-        if (prefabCaches.canBeCached(tag.getType())) {
-            result.ifPresent(tuple -> fieldCache.put(fieldName, tag, tuple));
+        if (canBeCached) {
+            return result
+                    .map(tuple -> fieldCache.putIfAbsent(fieldName, tag, typeCache.putIfAbsent(qualifier, tag, tuple)));
         }
         return result;
     }
@@ -2,17 +2,26 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 
 /**
  * Provider of prefabricated instances of classes, delegating to other ValueProviders in sequence.
+ *
+ * <p>
+ * A routing chain remembers, for each raw type, which provider first produced a value for it. Later lookups for that
+ * type skip the providers before it. This is only correct if those providers always return the same answer for the
+ * same raw type, so providers whose answers can change, such as the ones for user prefab values, should not be part
+ * of a routing chain.
  */
 public class ChainedValueProvider implements ValueProvider {
 
     private final List<ValueProvider> providers;
+    private final Map<Route, Integer> routes;
 
     /**
      * Constructor.
@@ -20,17 +29,50 @@ public class ChainedValueProvider implements ValueProvider {
      * @param providers A list of ValueProviders that are checked in turn for a value.
      */
     public ChainedValueProvider(ValueProvider... providers) {
+        this(null, providers);
+    }
+
+    private ChainedValueProvider(Map<Route, Integer> routes, ValueProvider... providers) {
         this.providers = Arrays.asList(providers);
+        this.routes = routes;
+    }
+
+    /**
+     * Factory method for a chain that remembers which provider produced a value for each raw type.
+     *
+     * @param providers A list of ValueProviders that are checked in turn for a value. Each provider must always give
+     *                      the same answer, present or empty, for the same raw type.
+     * @return A routing chain of the given providers.
+     */
+    public static ChainedValueProvider routing(ValueProvider... providers) {
+        return new ChainedValueProvider(new ConcurrentHashMap<>(), providers);
     }
 
     /** {@inheritDoc} */
     @Override
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
-        return providers
-                .stream()
-                .map(vp -> vp.<T>provide(tag, attributes))
-                .filter(Optional::isPresent)
-                .findFirst()
-                .orElse(Optional.empty());
+        if (routes == null) {
+            return providers
+                    .stream()
+                    .map(vp -> vp.<T>provide(tag, attributes))
+                    .filter(Optional::isPresent)
+                    .findFirst()
+                    .orElse(Optional.empty());
+        }
+
+        var route = new Route(tag.getType(), !tag.genericTypes().isEmpty());
+        int start = routes.getOrDefault(route, 0);
+        for (int i = start; i < providers.size(); i++) {
+            Optional<Tuple<T>> result = providers.get(i).provide(tag, attributes);
+            if (result.isPresent()) {
+                // Keep the earliest provider, because only the providers before it are known to be empty
+                routes.merge(route, i, Math::min);
+                return result;
+            }
+        }
+        return Optional.empty();
     }
+
+    // Some providers only handle types without generic parameters, so those are routed separately.
+    private record Route(Class<?> type, boolean generic) {}
 }
@@ -2,9 +2,6 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 
 import static nl.jqno.equalsverifier.internal.valueproviders.InstantiationUtil.valuesFor;
 
-import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import nl.jqno.equalsverifier.internal.instantiators.InstantiatorFactory;
@@ -29,25 +26,23 @@ public class ObjectValueProvider implements ValueProvider {
     @Override
     public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
         var instantiator = InstantiatorFactory.<T>of(ClassProbe.of(tag.getType()), objenesis);
-        var values = determineValues(tag.getType(), tag, attributes);
+        var values = determineValues(instantiator.slots(), tag, attributes);
         var tuple = Rethrow.rethrow(() -> values.map(instantiator::instantiate));
         return Optional.of(tuple);
     }
 
-    private <T> Tuple<Map<Field, Object>> determineValues(Class<T> actualType, TypeTag tag, Attributes attributes) {
-        Map<Field, Object> red = new HashMap<>();
-        Map<Field, Object> blue = new HashMap<>();
-        Map<Field, Object> redCopy = new HashMap<>();
+    private Tuple<ValueVector> determineValues(FieldSlots slots, TypeTag tag, Attributes attributes) {
+        var red = ValueVector.empty(slots);
+        var blue = ValueVector.empty(slots);
 
-        for (var p : FieldIterable.ofIgnoringStatic(actualType)) {
-            var field = p.getField();
-            var value = valuesFor(field, tag, vp, attributes);
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            var value = valuesFor(slots.field(i), tag, vp, attributes);
 
-            red.put(field, value.red());
-            blue.put(field, value.blue());
-            redCopy.put(field, value.red());
+            red.set(i, value.red());
+            blue.set(i, value.blue());
         }
 
-        return new Tuple<>(red, blue, redCopy);
+        // Instantiators don't modify the vectors, so red and redCopy can share one
+        return new Tuple<>(red, blue, red);
     }
 }
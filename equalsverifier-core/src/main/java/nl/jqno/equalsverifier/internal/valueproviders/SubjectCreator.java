@@ -1,8 +1,8 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import nl.jqno.equalsverifier.internal.instantiators.Instantiator;
@@ -14,6 +14,12 @@ import org.objenesis.Objenesis;
 
 /**
  * Creates a subject, i.e. an instance of the class that is currently being tested by EqualsVerifier.
+ *
+ * <p>
+ * The values for the fields of a subject are taken from templates: the red, blue and default values of all fields,
+ * which are resolved only once. A new subject is created by copying a template and applying the few values that differ
+ * from it. Each subject is still a new instance. Templates aren't kept if any field has a type with resettable prefab
+ * values, because those values must be created anew for each subject.
  */
 public class SubjectCreator<T> {
 
@@ -24,6 +30,14 @@ public class SubjectCreator<T> {
     private final ValueProvider valueProvider;
     private final Objenesis objenesis;
     private final Instantiator<? extends T> instantiator;
+    private final boolean keepTemplates;
+    private final Map<Class<?>, Instantiator<?>> copyInstantiators = new ConcurrentHashMap<>();
+
+    private final FieldSlots slots;
+
+    private volatile ValueVector redTemplate;
+    private volatile ValueVector blueTemplate;
+    private volatile ValueVector defaultTemplate;
 
     /**
      * Constructor.
@@ -33,6 +47,22 @@ public class SubjectCreator<T> {
      * @param objenesis     Needed by InstanceCreator to instantiate non-record classes.
      */
     public SubjectCreator(Configuration<T> config, ValueProvider valueProvider, Objenesis objenesis) {
+        this(config, valueProvider, new UserPrefabValueCaches(), objenesis);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param config        A configuration object.
+     * @param valueProvider To provide values for the fields of the subject.
+     * @param prefabCaches  Decides whether the values of a field can be reused for several subjects.
+     * @param objenesis     Needed by InstanceCreator to instantiate non-record classes.
+     */
+    public SubjectCreator(
+            Configuration<T> config,
+            ValueProvider valueProvider,
+            UserPrefabValueCaches prefabCaches,
+            Objenesis objenesis) {
         this.typeTag = config.typeTag();
         this.type = typeTag.getType();
         this.config = config;
@@ -41,6 +71,8 @@ public class SubjectCreator<T> {
         this.actualType =
                 SubtypeManager.findInstantiableSubclass(ClassProbe.of(type), valueProvider, Attributes.empty());
         this.instantiator = InstantiatorFactory.of(ClassProbe.of(actualType), objenesis);
+        this.slots = instantiator.slots();
+        this.keepTemplates = canKeepTemplates(prefabCaches);
     }
 
     /**
@@ -50,7 +82,7 @@ public class SubjectCreator<T> {
      * @return A plain instance.
      */
     public T plain() {
-        return createInstance(empty());
+        return createInstance(redTemplate());
     }
 
     /**
@@ -61,7 +93,7 @@ public class SubjectCreator<T> {
      * @return A plain instance with a field defaulted.
      */
     public T withFieldDefaulted(Field field) {
-        return createInstance(with(field, null));
+        return createInstance(redTemplate(), field, null);
     }
 
     /**
@@ -71,11 +103,7 @@ public class SubjectCreator<T> {
      * @return An instance with all fields defaulted.
      */
     public T withAllFieldsDefaulted() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            values.put(p.getField(), null);
-        }
-        return createInstance(values);
+        return createInstance(defaultTemplate());
     }
 
     /**
@@ -88,10 +116,10 @@ public class SubjectCreator<T> {
      *             value.
      */
     public T withAllMatchingFieldsDefaulted(Predicate<Field> predicate) {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            if (predicate.test(p.getField())) {
-                values.put(p.getField(), null);
+        var values = redTemplate().copy();
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            if (predicate.test(slots.field(i))) {
+                assign(values, i, null);
             }
         }
         return createInstance(values);
@@ -105,14 +133,11 @@ public class SubjectCreator<T> {
      * @return An instance with all fields defaulted except for {@code field}.
      */
     public T withAllFieldsDefaultedExcept(Field field) {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            if (!f.equals(field)) {
-                values.put(f, null);
-            }
+        int index = slots.indexOf(field);
+        if (index < 0) {
+            return createInstance(defaultTemplate());
         }
-        return createInstance(values);
+        return createInstance(defaultTemplate().copy().set(index, red(index)));
     }
 
     /**
@@ -123,7 +148,7 @@ public class SubjectCreator<T> {
      * @return A plain instance with one field assigned the given value.
      */
     public T withFieldSetTo(Field field, Object value) {
-        return createInstance(with(field, value));
+        return createInstance(redTemplate(), field, value);
     }
 
     /**
@@ -136,8 +161,7 @@ public class SubjectCreator<T> {
         if (FieldProbe.of(field).isStatic()) {
             return plain();
         }
-        Object value = valuesFor(field).blue();
-        return createInstance(with(field, value));
+        return createInstance(redTemplate(), field, blue(field));
     }
 
     /**
@@ -146,13 +170,7 @@ public class SubjectCreator<T> {
      * @return A plain instance with all fields changed.
      */
     public T withAllFieldsChanged() {
-        Map<Field, Object> values = empty();
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            Object value = valuesFor(f).blue();
-            values.put(f, value);
-        }
-        return createInstance(values);
+        return createInstance(blueTemplate());
     }
 
     /**
@@ -162,11 +180,12 @@ public class SubjectCreator<T> {
      * @return A plain instance with all non-inherited fields changed.
      */
     public T withAllFieldsShallowlyChanged() {
-        Map<Field, Object> values = empty();
+        var values = redTemplate().copy();
         for (FieldProbe p : nonSuperFields()) {
-            Field f = p.getField();
-            Object value = valuesFor(f).blue();
-            values.put(f, value);
+            int index = slots.indexOf(p.getField());
+            if (index >= 0) {
+                assign(values, index, blue(p.getField()));
+            }
         }
         return createInstance(values);
     }
@@ -179,9 +198,7 @@ public class SubjectCreator<T> {
      * @return An instance of the givenoriginal's superclass, but otherwise a copy of the original.
      */
     public Object copyIntoSuperclass(T original) {
-        var actualSuperType = SubtypeManager
-                .findInstantiableSubclass(ClassProbe.of(type.getSuperclass()), valueProvider, Attributes.empty());
-        Instantiator<? super T> superCreator = InstantiatorFactory.of(ClassProbe.of(actualSuperType), objenesis);
+        Instantiator<? super T> superCreator = instantiatorFor(type.getSuperclass());
         return superCreator.copy(original);
     }
 
@@ -196,43 +213,101 @@ public class SubjectCreator<T> {
      * @return An instance of the given subType, but otherwise a copy of the given original.
      */
     public <S extends T> S copyIntoSubclass(T original, Class<S> subType) {
-        var actualSubType =
-                SubtypeManager.findInstantiableSubclass(ClassProbe.of(subType), valueProvider, Attributes.empty());
-        Instantiator<S> subCreator = InstantiatorFactory.of(ClassProbe.of(actualSubType), objenesis);
+        Instantiator<S> subCreator = instantiatorFor(subType);
         return subCreator.copy(original);
     }
 
-    private T createInstance(Map<Field, Object> givens) {
-        Map<Field, Object> values = determineValues(givens);
+    @SuppressWarnings("unchecked")
+    private <S> Instantiator<S> instantiatorFor(Class<S> someType) {
+        var result = copyInstantiators.get(someType);
+        if (result == null) {
+            var actualSomeType =
+                    SubtypeManager.findInstantiableSubclass(ClassProbe.of(someType), valueProvider, Attributes.empty());
+            result = InstantiatorFactory.of(ClassProbe.of(actualSomeType), objenesis);
+            copyInstantiators.putIfAbsent(someType, result);
+        }
+        return (Instantiator<S>) result;
+    }
+
+    private T createInstance(ValueVector template, Field field, Object value) {
+        int index = slots.indexOf(field);
+        if (index < 0) {
+            return createInstance(template);
+        }
+        var values = template.copy();
+        assign(values, index, value);
+        return createInstance(values);
+    }
+
+    private T createInstance(ValueVector values) {
         return Rethrow.rethrow(() -> instantiator.instantiate(values));
     }
 
-    private Map<Field, Object> determineValues(Map<Field, Object> givens) {
-        var values = new HashMap<Field, Object>(givens);
-        for (FieldProbe p : fields()) {
-            Field f = p.getField();
-            boolean fieldIsAbsent = !values.containsKey(f);
-            boolean fieldCannotBeNull = values.get(f) == null && !p.canBeDefault(config);
-            if (fieldIsAbsent || fieldCannotBeNull) {
-                Object value = valuesFor(f).red();
-                values.put(f, value);
+    private void assign(ValueVector values, int index, Object value) {
+        boolean fieldCannotBeNull = value == null && !slots.probe(index).canBeDefault(config);
+        values.set(index, fieldCannotBeNull ? red(index) : value);
+    }
+
+    private ValueVector redTemplate() {
+        var result = redTemplate;
+        if (result == null) {
+            result = ValueVector.empty(slots);
+            for (int i = 0; i < slots.size(); i = i + 1) {
+                result.set(i, valuesFor(slots.field(i)).red());
+            }
+            if (keepTemplates) {
+                redTemplate = result;
             }
         }
-        return values;
+        return result;
     }
 
-    private Map<Field, Object> empty() {
-        return new HashMap<>();
+    private ValueVector blueTemplate() {
+        var result = blueTemplate;
+        if (result == null) {
+            result = ValueVector.empty(slots);
+            for (int i = 0; i < slots.size(); i = i + 1) {
+                Tuple<?> tuple = valuesFor(slots.field(i));
+                boolean fieldCannotBeNull = tuple.blue() == null && !slots.probe(i).canBeDefault(config);
+                result.set(i, fieldCannotBeNull ? tuple.red() : tuple.blue());
+            }
+            if (keepTemplates) {
+                blueTemplate = result;
+            }
+        }
+        return result;
     }
 
-    private Map<Field, Object> with(Field f, Object v) {
-        Map<Field, Object> result = empty();
-        result.put(f, v);
+    private ValueVector defaultTemplate() {
+        var result = defaultTemplate;
+        if (result == null) {
+            result = ValueVector.empty(slots);
+            for (int i = 0; i < slots.size(); i = i + 1) {
+                result.set(i, slots.probe(i).canBeDefault(config) ? null : red(i));
+            }
+            if (keepTemplates) {
+                defaultTemplate = result;
+            }
+        }
         return result;
     }
 
-    private FieldIterable fields() {
-        return FieldIterable.ofIgnoringStatic(actualType);
+    private Object red(int index) {
+        return keepTemplates ? redTemplate().get(index) : valuesFor(slots.field(index)).red();
+    }
+
+    private Object blue(Field f) {
+        int index = slots.indexOf(f);
+        return keepTemplates && index >= 0 ? blueTemplate().get(index) : valuesFor(f).blue();
+    }
+
+    private boolean canKeepTemplates(UserPrefabValueCaches prefabCaches) {
+        for (int i = 0; i < slots.size(); i = i + 1) {
+            if (!prefabCaches.canBeCached(TypeTag.of(slots.field(i), typeTag).getType())) {
+                return false;
+            }
+        }
+        return true;
     }
 
     private FieldIterable nonSuperFields() {
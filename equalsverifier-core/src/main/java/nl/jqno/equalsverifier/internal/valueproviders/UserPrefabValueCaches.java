@@ -1,7 +1,7 @@
 package nl.jqno.equalsverifier.internal.valueproviders;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import nl.jqno.equalsverifier.Func;
@@ -11,11 +11,14 @@ import nl.jqno.equalsverifier.internal.reflection.Tuple;
 
 /**
  * Contains various caches of prefab values, or of factories for prefab values.
+ *
+ * <p>
+ * The caches are safe to read and write from multiple threads.
  */
 public class UserPrefabValueCaches {
-    private final Map<Class<?>, Tuple<?>> cache = new HashMap<>();
-    private final Map<Class<?>, Tuple<Supplier<?>>> supplierCache = new HashMap<>();
-    private final Map<Class<?>, Func<?>> genericCache = new HashMap<>();
+    private final Map<Class<?>, Tuple<?>> cache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Tuple<Supplier<?>>> supplierCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Func<?>> genericCache = new ConcurrentHashMap<>();
 
     /** Constructor. */
     public UserPrefabValueCaches() {}
@@ -0,0 +1,82 @@
+package nl.jqno.equalsverifier.internal.checkers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nl.jqno.equalsverifier.internal.checkers.fieldchecks.FieldCheck;
+import org.junit.jupiter.api.Test;
+
+class FieldInspectorTest {
+
+    private final List<String> visited = new ArrayList<>();
+
+    @Test
+    void visitsEachFieldOnceWithAllChecks() {
+        var inspector = new FieldInspector<>(Point.class, false);
+        inspector.check(List.of(record("a"), record("b")));
+
+        assertThat(visited).containsExactly("a:x", "b:x", "a:y", "b:y");
+    }
+
+    @Test
+    void reportsFailureOfEarliestCheck_whenLaterCheckFailsOnEarlierField() {
+        var inspector = new FieldInspector<>(Point.class, false);
+
+        assertThatThrownBy(() -> inspector.check(List.of(failOn("first", "y"), failOn("second", "x"))))
+                .hasMessage("first:y");
+    }
+
+    @Test
+    void reportsFailureOfEarliestField_whenCheckFailsOnSeveralFields() {
+        var inspector = new FieldInspector<>(Point.class, false);
+
+        assertThatThrownBy(() -> inspector.check(List.of(failOn("first", "x", "y")))).hasMessage("first:x");
+    }
+
+    @Test
+    void reportsSameFailureInParallel() {
+        var inspector = new FieldInspector<>(Point.class, false, true);
+
+        assertThatThrownBy(() -> inspector.check(List.of(failOn("first", "y"), failOn("second", "x"))))
+                .hasMessage("first:y");
+    }
+
+    @Test
+    void skipsLaterChecksForFieldsAfterAFailure() {
+        var inspector = new FieldInspector<>(Point.class, false);
+
+        assertThatThrownBy(() -> inspector.check(List.of(record("a"), failOn("b", "x"), record("c"))))
+                .hasMessage("b:x");
+        assertThat(visited).containsExactly("a:x", "a:y");
+    }
+
+    private FieldCheck<Point> record(String name) {
+        return p -> {
+            synchronized (visited) {
+                visited.add(name + ":" + p.getName());
+            }
+        };
+    }
+
+    private static FieldCheck<Point> failOn(String name, String... fieldNames) {
+        return p -> {
+            if (List.of(fieldNames).contains(p.getName())) {
+                throw new IllegalStateException(name + ":" + p.getName());
+            }
+        };
+    }
+
+    @SuppressWarnings("unused")
+    static final class Point {
+        private final int x;
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+}
@@ -1,10 +1,14 @@
 package nl.jqno.equalsverifier.internal.instantiators;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.lang.reflect.Field;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
 import nl.jqno.equalsverifier.internal.reflection.ClassProbe;
 import org.junit.jupiter.api.Test;
 import org.objenesis.ObjenesisStd;
@@ -27,5 +31,69 @@ class ConstructorInstantiatorTest {
         assertThat(actual.z).isEqualTo("42");
     }
 
+    @Test
+    void instantiateTwice() throws NoSuchFieldException {
+        var sut = InstantiatorFactory.of(ClassProbe.of(SomeRecord.class), new ObjenesisStd());
+        var x = SomeRecord.class.getDeclaredField("x");
+
+        var first = sut.instantiate(Map.of(x, 1));
+        var second = sut.instantiate(Map.of(x, 2));
+
+        assertThat(first.x).isEqualTo(1);
+        assertThat(second.x).isEqualTo(2);
+    }
+
+    @Test
+    void constructorThrows() {
+        var sut = InstantiatorFactory.of(ClassProbe.of(NonNullRecord.class), new ObjenesisStd());
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of()))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessageContaining("failed to run constructor for record type")
+                .hasMessageContaining("consider suppressing Warning.NULL_FIELDS");
+    }
+
+    @Test
+    void constructorThrows_constructorRunsOnlyOnce() {
+        var sut = InstantiatorFactory.of(ClassProbe.of(CountingRecord.class), new ObjenesisStd());
+        CountingRecord.CALLS.set(0);
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of()))
+                .isInstanceOf(ReflectionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(CountingRecord.CALLS).hasValue(1);
+    }
+
+    @Test
+    void constructorThrowsError() {
+        var sut = InstantiatorFactory.of(ClassProbe.of(ErrorRecord.class), new ObjenesisStd());
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of()))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessageContaining("failed to run constructor for record type")
+                .hasCauseInstanceOf(StackOverflowError.class);
+    }
+
     record SomeRecord(int x, int y, String z) {}
+
+    record NonNullRecord(String s) {
+        NonNullRecord {
+            Objects.requireNonNull(s);
+        }
+    }
+
+    record CountingRecord(int i) {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        CountingRecord {
+            CALLS.incrementAndGet();
+            throw new IllegalStateException();
+        }
+    }
+
+    record ErrorRecord(int i) {
+        ErrorRecord {
+            throw new StackOverflowError();
+        }
+    }
 }
@@ -20,6 +20,30 @@ public class InstantiatorFactoryTest {
         assertThat(sut(SomeClass.class)).isInstanceOf(ReflectionInstantiator.class);
     }
 
+    @Test
+    void returnsSameInstantiator_forSameClass() {
+        var other = InstantiatorFactory.of(ClassProbe.of(SomeClass.class), new ObjenesisStd());
+        assertThat(sut(SomeClass.class)).isSameAs(other);
+    }
+
+    @Test
+    void returnsMappedConstructorInstantiator_ifFinalFieldsCannotBeWritten() {
+        var actual = InstantiatorFactory.create(ClassProbe.of(Point.class), objenesis, false);
+        assertThat(actual).isInstanceOf(MappedConstructorInstantiator.class);
+    }
+
+    @Test
+    void returnsReflectionInstantiator_ifFinalFieldsCanBeWritten() {
+        var actual = InstantiatorFactory.create(ClassProbe.of(Point.class), objenesis, true);
+        assertThat(actual).isInstanceOf(ReflectionInstantiator.class);
+    }
+
+    @Test
+    void returnsReflectionInstantiator_ifNoConstructorAssignsAllFinalFields() {
+        var actual = InstantiatorFactory.create(ClassProbe.of(SomeClass.class), objenesis, false);
+        assertThat(actual).isInstanceOf(ReflectionInstantiator.class);
+    }
+
     private <T> Instantiator<T> sut(Class<T> type) {
         return InstantiatorFactory.of(ClassProbe.of(type), objenesis);
     }
@@ -30,4 +54,13 @@ public class InstantiatorFactoryTest {
     static class SomeClass {
         private final int i = 10;
     }
+
+    @SuppressWarnings("unused")
+    static final class Point {
+        private final int x;
+
+        Point(int x) {
+            this.x = x;
+        }
+    }
 }
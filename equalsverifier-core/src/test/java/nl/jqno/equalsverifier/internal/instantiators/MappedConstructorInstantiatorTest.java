@@ -0,0 +1,327 @@
+package nl.jqno.equalsverifier.internal.instantiators;
+
+import static net.bytebuddy.matcher.ElementMatchers.named;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.modifier.FieldManifestation;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import net.bytebuddy.dynamic.scaffold.subclass.ConstructorStrategy;
+import net.bytebuddy.implementation.FieldAccessor;
+import net.bytebuddy.implementation.MethodCall;
+import nl.jqno.equalsverifier.internal.exceptions.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+class MappedConstructorInstantiatorTest {
+
+    @Test
+    void mapsParametersToAssignedFields() throws NoSuchFieldException {
+        var mapping = ConstructorMapping.find(Point.class);
+
+        assertThat(mapping.parameterFields())
+                .containsExactly(Point.class.getDeclaredField("x"), Point.class.getDeclaredField("y"));
+    }
+
+    @Test
+    void instantiatesThroughConstructor() throws NoSuchFieldException {
+        var sut = sut(Point.class);
+        var p = sut.instantiate(Map.of(Point.class.getDeclaredField("x"), 1, Point.class.getDeclaredField("y"), 2));
+
+        assertThat(p.x).isEqualTo(1);
+        assertThat(p.y).isEqualTo(2);
+    }
+
+    @Test
+    void passesDefaultValues_forMissingFields() {
+        var p = sut(Point.class).instantiate(Map.of());
+
+        assertThat(p.x).isEqualTo(0);
+        assertThat(p.y).isEqualTo(0);
+    }
+
+    @Test
+    void copiesThroughConstructor() {
+        var copy = sut(Point.class).copy(new Point(3, 4));
+
+        assertThat(copy.x).isEqualTo(3);
+        assertThat(copy.y).isEqualTo(4);
+    }
+
+    @Test
+    void handlesWideParameters() throws NoSuchFieldException {
+        var sut = sut(Wide.class);
+        var w = sut
+                .instantiate(
+                    Map.of(Wide.class.getDeclaredField("l"), 1L, Wide.class.getDeclaredField("s"), "s",
+                        Wide.class.getDeclaredField("d"), 2.0));
+
+        assertThat(w.l).isEqualTo(1L);
+        assertThat(w.s).isEqualTo("s");
+        assertThat(w.d).isEqualTo(2.0);
+    }
+
+    @Test
+    void assignsNonFinalFieldsAfterwards() throws NoSuchFieldException {
+        var sut = sut(PartlyMutable.class);
+        var p = sut
+                .instantiate(
+                    Map.of(PartlyMutable.class.getDeclaredField("s"), "s", PartlyMutable.class.getDeclaredField("i"),
+                        42));
+
+        assertThat(p.s).isEqualTo("s");
+        assertThat(p.i).isEqualTo(42);
+    }
+
+    @Test
+    void choosesConstructorThatAssignsAllFinalFields() {
+        var mapping = ConstructorMapping.find(Overloaded.class);
+
+        assertThat(mapping.parameterTypes()).containsExactly(String.class, String.class);
+    }
+
+    @Test
+    void mapsParametersPassedThroughRequireNonNull() throws NoSuchFieldException {
+        var mapping = ConstructorMapping.find(NonNullPair.class);
+
+        assertThat(mapping.parameterFields())
+                .containsExactly(NonNullPair.class.getDeclaredField("s"), NonNullPair.class.getDeclaredField("i"));
+    }
+
+    @Test
+    void instantiatesThroughConstructorThatCallsRequireNonNull() throws NoSuchFieldException {
+        var sut = sut(NonNullPair.class);
+        var p = sut
+                .instantiate(
+                    Map.of(NonNullPair.class.getDeclaredField("s"), "s", NonNullPair.class.getDeclaredField("i"), 42));
+
+        assertThat(p.s).isEqualTo("s");
+        assertThat(p.i).isEqualTo(42);
+    }
+
+    @Test
+    void mapsUnmatchedParameterByName_whenParameterNamesArePresent() throws Exception {
+        var type = copyingClass(true);
+        var mapping = ConstructorMapping.find(type);
+
+        assertThat(mapping.parameterFields()).containsExactly(type.getDeclaredField("s"), type.getDeclaredField("t"));
+    }
+
+    @Test
+    void doesNotMapUnmatchedParameter_whenParameterNamesAreAbsent() throws Exception {
+        assertThat(ConstructorMapping.find(copyingClass(false))).isNull();
+    }
+
+    @Test
+    void doesNotMapModifiedParameters() {
+        assertThat(ConstructorMapping.find(Modified.class)).isNull();
+    }
+
+    @Test
+    void doesNotMapParameterAssignedToSeveralFields() {
+        assertThat(ConstructorMapping.find(Shared.class)).isNull();
+    }
+
+    @Test
+    void doesNotMapNarrowerParameterType() {
+        assertThat(ConstructorMapping.find(Narrower.class)).isNull();
+    }
+
+    @Test
+    void doesNotMapFinalFieldsOfSuperclass() {
+        assertThat(ConstructorMapping.find(Sub.class)).isNull();
+    }
+
+    @Test
+    void reportsFailingConstructor() {
+        var sut = sut(Failing.class);
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of()))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessageContaining("Failed to run constructor for type " + Failing.class.getName())
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void runsFailingConstructorOnlyOnce() {
+        var sut = sut(Failing.class);
+        Failing.CALLS.set(0);
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of())).isInstanceOf(ReflectionException.class);
+        assertThat(Failing.CALLS).hasValue(1);
+    }
+
+    @Test
+    void suggestsSuppressingNullFields_whenConstructorRejectsNull() {
+        var sut = sut(RejectsNull.class);
+
+        assertThatThrownBy(() -> sut.instantiate(Map.of()))
+                .isInstanceOf(ReflectionException.class)
+                .hasMessageContaining("consider suppressing Warning.NULL_FIELDS");
+    }
+
+    private static <T> MappedConstructorInstantiator<T> sut(Class<T> type) {
+        return new MappedConstructorInstantiator<>(type, ConstructorMapping.find(type));
+    }
+
+    /*
+     * Creates a class with a constructor that does `this.s = String.valueOf(s); this.t = t;`. Its class file stays
+     * readable after loading, so only the first parameter has to be mapped by name.
+     */
+    private Class<?> copyingClass(boolean withParameterNames) throws NoSuchMethodException {
+        var constructor = new ByteBuddy()
+                .subclass(Object.class, ConstructorStrategy.Default.NO_CONSTRUCTORS)
+                .defineField("s", String.class, Visibility.PRIVATE, FieldManifestation.FINAL)
+                .defineField("t", String.class, Visibility.PRIVATE, FieldManifestation.FINAL)
+                .defineConstructor(Visibility.PUBLIC);
+        var parameters = withParameterNames
+                ? constructor.withParameter(String.class, "s").withParameter(String.class, "t")
+                : constructor.withParameters(String.class, String.class);
+        return parameters
+                .intercept(
+                    MethodCall
+                            .invoke(Object.class.getConstructor())
+                            .andThen(
+                                MethodCall
+                                        .invoke(String.class.getMethod("valueOf", Object.class))
+                                        .withArgument(0)
+                                        .setsField(named("s")))
+                            .andThen(FieldAccessor.ofField("t").setsArgumentAt(1)))
+                .make()
+                .load(getClass().getClassLoader(), ClassLoadingStrategy.Default.WRAPPER_PERSISTENT)
+                .getLoaded();
+    }
+
+    static final class Point {
+        private final int x;
+        private final int y;
+
+        Point(int x, int y) {
+            this.x = x;
+            this.y = y;
+        }
+    }
+
+    static final class Wide {
+        private final long l;
+        private final String s;
+        private final double d;
+
+        Wide(long l, String s, double d) {
+            this.l = l;
+            this.s = s;
+            this.d = d;
+        }
+    }
+
+    static final class PartlyMutable {
+        private final String s;
+        private int i;
+
+        PartlyMutable(String s) {
+            this.s = s;
+            this.i = 10;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Overloaded {
+        private final String a;
+        private final String b;
+
+        Overloaded(String a) {
+            this(a, "b");
+        }
+
+        Overloaded(String a, String b) {
+            this.a = a;
+            this.b = b;
+        }
+    }
+
+    static final class NonNullPair {
+        private final String s;
+        private final Integer i;
+
+        NonNullPair(String s, Integer i) {
+            this.s = Objects.requireNonNull(s);
+            this.i = Objects.requireNonNull(i, "i");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Modified {
+        private final int i;
+
+        Modified(int i) {
+            this.i = i + 1;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Shared {
+        private final String a;
+        private final String b;
+
+        Shared(String s) {
+            this.a = s;
+            this.b = s;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Narrower {
+        private final Object o;
+
+        Narrower(String o) {
+            this.o = o;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class Super {
+        private final int i;
+
+        Super(int i) {
+            this.i = i;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Sub extends Super {
+        private final int j;
+
+        Sub(int i, int j) {
+            super(i);
+            this.j = j;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Failing {
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        private final String s;
+
+        Failing(String s) {
+            this.s = s;
+            CALLS.incrementAndGet();
+            throw new IllegalStateException("fails");
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class RejectsNull {
+        private final String s;
+
+        RejectsNull(String s) {
+            Objects.requireNonNull(s);
+            this.s = s;
+        }
+    }
+}
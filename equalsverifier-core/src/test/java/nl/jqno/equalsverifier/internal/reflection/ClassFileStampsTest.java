@@ -0,0 +1,42 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ClassFileStampsTest {
+
+    private final ClassFileStamps sut = new ClassFileStamps();
+
+    @Test
+    void jdkClassIsStampedWithJdkVersion() {
+        assertThat(sut.of(null, String.class.getName())).isEqualTo("jdk " + Runtime.version());
+    }
+
+    @Test
+    void classInDirectoryIsStampedWithItsContent() {
+        assertThat(sut.of(getClass().getClassLoader(), getClass().getName())).startsWith("sha ");
+    }
+
+    @Test
+    void classInJarIsStampedWithItsChecksum() {
+        assertThat(sut.of(Test.class.getClassLoader(), Test.class.getName())).startsWith("crc ");
+    }
+
+    @Test
+    void missingClassIsStampedAsMissing() {
+        assertThat(sut.of(getClass().getClassLoader(), "com.example.DoesNotExist")).isEqualTo(ClassFileStamps.MISSING);
+    }
+
+    @Test
+    void differentClassesHaveDifferentStamps() {
+        var loader = getClass().getClassLoader();
+        assertThat(sut.of(loader, getClass().getName())).isNotEqualTo(sut.of(loader, ClassProbe.class.getName()));
+    }
+
+    @Test
+    void stampIsRemembered() {
+        var loader = getClass().getClassLoader();
+        assertThat(sut.of(loader, getClass().getName())).isSameAs(sut.of(loader, getClass().getName()));
+    }
+}
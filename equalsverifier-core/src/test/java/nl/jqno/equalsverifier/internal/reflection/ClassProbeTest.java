@@ -2,6 +2,10 @@ package nl.jqno.equalsverifier.internal.reflection;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
 import nl.jqno.equalsverifier_testhelpers.types.ColorPoint3D;
 import nl.jqno.equalsverifier_testhelpers.types.Point3D;
 import nl.jqno.equalsverifier_testhelpers.types.PointContainer;
@@ -181,6 +185,15 @@ class ClassProbeTest {
         assertThat(accessor.findField("f_protected")).isNotEmpty();
     }
 
+    @Test
+    void findFieldReturnsCopy() {
+        ClassProbe<?> accessor = ClassProbe.of(ChildOfFieldContainer.class);
+        Field first = accessor.findField("f").get();
+        Field second = accessor.findField("f").get();
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
     @Test
     void doesNotHaveField() {
         ClassProbe<?> accessor = ClassProbe.of(FieldContainer.class);
@@ -218,8 +231,70 @@ class ClassProbeTest {
         assertThat(superAccessor.getType()).isEqualTo(Point3D.class);
     }
 
+    @Test
+    void probesAreSharedPerClass() {
+        assertThat(ClassProbe.of(PointContainer.class)).isSameAs(pointProbe);
+        assertThat(ClassProbe.of(ColorPoint3D.class).getSuperProbe()).isSameAs(ClassProbe.of(Point3D.class));
+    }
+
+    @Test
+    void methodIsFinalInCovariantOverride() {
+        var accessor = ClassProbe.of(CovariantChild.class);
+        assertThat(accessor.isMethodFinal("get")).isTrue();
+    }
+
+    @Test
+    void getterIsFinalInSuperclass() {
+        var accessor = ClassProbe.of(CovariantGrandchild.class);
+        assertThat(accessor.isMethodFinal("get")).isTrue();
+    }
+
+    @Test
+    void getterLookupIsCached() {
+        var accessor = ClassProbe.of(CovariantGrandchild.class);
+        var first = accessor.findMethod("get");
+        assertThat(accessor.findMethod("get")).isSameAs(first);
+        assertThat(accessor.getters).containsEntry("get", first);
+    }
+
+    @Test
+    void missingGetterIsCachedAsEmpty() {
+        var accessor = ClassProbe.of(CovariantGrandchild.class);
+        assertThat(accessor.isMethodFinal("doesNotExist")).isFalse();
+        assertThat(accessor.getters).containsEntry("doesNotExist", Optional.empty());
+        assertThat(accessor.hasMethod("doesNotExist")).isFalse();
+    }
+
+    @Test
+    void cachedGetterMatchesDeclaredMethodLookup_whenOverrideIsCovariant() throws NoSuchMethodException {
+        // CovariantChild declares both `final String get()` and a synthetic, non-final bridge `Object get()`
+        var expected = CovariantChild.class.getDeclaredMethod("get");
+        assertThat(expected.isBridge()).isFalse();
+
+        var actual = ClassProbe.of(CovariantGrandchild.class).findMethod("get");
+        assertThat(actual).contains(expected);
+        assertThat(actual.get().getReturnType()).isEqualTo(String.class);
+        assertThat(ClassProbe.of(CovariantGrandchild.class).isMethodFinal("get"))
+                .isEqualTo(Modifier.isFinal(expected.getModifiers()));
+    }
+
     static class ChildOfFieldContainer extends FieldContainer {}
 
+    static class CovariantParent {
+        Object get() {
+            return null;
+        }
+    }
+
+    static class CovariantChild extends CovariantParent {
+        @Override
+        final String get() {
+            return "";
+        }
+    }
+
+    static class CovariantGrandchild extends CovariantChild {}
+
     public abstract static sealed class SealedParent {}
 
     public static non-sealed class SealedChild extends SealedParent {}
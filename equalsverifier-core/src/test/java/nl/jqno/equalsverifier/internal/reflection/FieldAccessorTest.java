@@ -0,0 +1,74 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+
+class FieldAccessorTest {
+
+    private final Container o = new Container();
+
+    @Test
+    void returnsSameAccessorForSameField() throws NoSuchFieldException {
+        var first = FieldAccessor.of(Container.class.getDeclaredField("i"));
+        var second = FieldAccessor.of(Container.class.getDeclaredField("i"));
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void getAndSetInstanceField() throws Exception {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("i"));
+
+        sut.set(o, 1337);
+        assertThat(sut.get(o)).isEqualTo(1337);
+    }
+
+    @Test
+    void getAndSetFinalInstanceField() throws Exception {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("f"));
+
+        sut.set(o, "changed");
+        assertThat(sut.get(o)).isEqualTo("changed");
+    }
+
+    @Test
+    void getStaticFinalField() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("CONSTANT"));
+
+        assertThat(sut.get(null)).isEqualTo("CONSTANT");
+    }
+
+    @Test
+    void getRecordField() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Point.class.getDeclaredField("x"));
+
+        assertThat(sut.get(new Point(1, 2))).isEqualTo(1);
+    }
+
+    @Test
+    void setWithWrongType_failsLikeReflection() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Container.class.getDeclaredField("i"));
+
+        assertThatThrownBy(() -> sut.set(o, "not an int"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Can not set");
+    }
+
+    @Test
+    void setRecordField_failsLikeReflection() throws NoSuchFieldException {
+        var sut = FieldAccessor.of(Point.class.getDeclaredField("x"));
+
+        assertThatThrownBy(() -> sut.set(new Point(1, 2), 3)).isInstanceOf(IllegalAccessException.class);
+    }
+
+    @SuppressWarnings("unused")
+    static final class Container {
+        private static final String CONSTANT = "CONSTANT";
+        private final String f = new String("final");
+        private int i = 10;
+    }
+
+    record Point(int x, int y) {}
+}
@@ -126,6 +126,26 @@ class FieldIterableTest {
         assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(() -> iterator.next());
     }
 
+    @Test
+    void iteratingTwiceReusesTheSameProbes() {
+        var first = new ArrayList<FieldProbe>();
+        FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class).forEach(first::add);
+        var second = new ArrayList<FieldProbe>();
+        FieldIterable.of(DifferentAccessModifiersSubFieldContainer.class).forEach(second::add);
+
+        assertThat(second).hasSameSizeAs(first);
+        for (int i = 0; i < first.size(); i++) {
+            assertThat(second.get(i)).isSameAs(first.get(i));
+        }
+    }
+
+    @Test
+    void iteratorDoesNotAllowRemoval() {
+        Iterator<FieldProbe> iterator = FieldIterable.of(DifferentAccessModifiersFieldContainer.class).iterator();
+        iterator.next();
+        assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> iterator.remove());
+    }
+
     @Test
     void objectHasNoElements() {
         FieldIterable iterable = FieldIterable.of(Object.class);
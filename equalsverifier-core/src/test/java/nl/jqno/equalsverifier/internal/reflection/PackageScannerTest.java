@@ -25,6 +25,21 @@ class PackageScannerTest {
         assertThat(classes).isEqualTo(Arrays.asList(A.class, B.class, C.class));
     }
 
+    @Test
+    void classesAreOrderedByName() {
+        opts = PackageScanOptions.process(ScanOption.recursive());
+        List<Class<?>> classes =
+                PackageScanner.getClassesIn("nl.jqno.equalsverifier.testhelpers.packages.correct", opts);
+        assertThat(classes).hasSize(8).isSortedAccordingTo(Comparator.comparing(Class::getName));
+    }
+
+    @Test
+    void jarClassesAreOrderedByName() {
+        opts = PackageScanOptions.process(ScanOption.recursive());
+        List<Class<?>> classes = PackageScanner.getClassesIn("org.objenesis", opts);
+        assertThat(classes).isSortedAccordingTo(Comparator.comparing(Class::getName));
+    }
+
     @Test
     void happyPathMustExtendClass() {
         opts = PackageScanOptions.process(ScanOption.mustExtend(SuperA.class));
@@ -172,6 +187,41 @@ class PackageScannerTest {
                 .anyMatch(c -> "org.objenesis.instantiator.ObjectInstantiator".equals(c.getName()));
     }
 
+    @Test
+    void selectShardWithoutShardOption() {
+        List<Class<?>> classes = Arrays.asList(A.class, B.class, C.class);
+        assertThat(PackageScanner.selectShard(classes, opts)).isEqualTo(classes);
+    }
+
+    @Test
+    void selectShardPartitionsClasses() {
+        List<Class<?>> all = PackageScanner
+                .getClassesIn(
+                    "nl.jqno.equalsverifier.testhelpers.packages.correct",
+                    PackageScanOptions.process(ScanOption.recursive()));
+
+        List<Class<?>> union = new ArrayList<>();
+        for (int index = 0; index < 3; index++) {
+            opts = PackageScanOptions.process(ScanOption.shard(index, 3));
+            List<Class<?>> shard = PackageScanner.selectShard(all, opts);
+            assertThat(all).containsSubsequence(shard);
+            union.addAll(shard);
+        }
+        assertThat(union).containsExactlyInAnyOrderElementsOf(all);
+    }
+
+    @Test
+    void selectShardIsStable() {
+        opts = PackageScanOptions.process(ScanOption.shard(1, 4));
+        List<Class<?>> classes = Arrays.asList(A.class, B.class, C.class, D.class);
+        List<Class<?>> reversed = new ArrayList<>(classes);
+        Collections.reverse(reversed);
+
+        List<Class<?>> shard = new ArrayList<>(PackageScanner.selectShard(reversed, opts));
+        Collections.reverse(shard);
+        assertThat(PackageScanner.selectShard(classes, opts)).isEqualTo(shard);
+    }
+
     private void sort(List<Class<?>> classes) {
         classes.sort(Comparator.comparing(Class::getName));
     }
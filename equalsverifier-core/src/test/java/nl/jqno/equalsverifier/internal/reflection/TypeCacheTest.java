@@ -0,0 +1,44 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class TypeCacheTest {
+
+    private final TypeTag stringTag = new TypeTag(String.class);
+    private final Tuple<String> stringValues = new Tuple<>("red", "blue", "red");
+    private final Tuple<String> otherStringValues = new Tuple<>("one", "two", "one");
+
+    private final TypeCache cache = new TypeCache();
+
+    @Test
+    void putAndGetTuple() {
+        cache.putIfAbsent(null, stringTag, stringValues);
+        assertThat(cache.get(null, stringTag)).isSameAs(stringValues);
+    }
+
+    @Test
+    void getNothingForDifferentType() {
+        cache.putIfAbsent(null, stringTag, stringValues);
+        assertThat(cache.get(null, new TypeTag(int.class))).isNull();
+    }
+
+    @Test
+    void putIfAbsentKeepsExistingTuple() {
+        cache.putIfAbsent(null, stringTag, stringValues);
+        assertThat(cache.putIfAbsent(null, stringTag, otherStringValues)).isSameAs(stringValues);
+        assertThat(cache.get(null, stringTag)).isSameAs(stringValues);
+    }
+
+    @Test
+    void qualifiedTuplesAreSeparate() {
+        cache.putIfAbsent("a", stringTag, stringValues);
+        cache.putIfAbsent("b", stringTag, otherStringValues);
+
+        assertThat(cache.get("a", stringTag)).isSameAs(stringValues);
+        assertThat(cache.get("b", stringTag)).isSameAs(otherStringValues);
+        assertThat(cache.get(null, stringTag)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+}
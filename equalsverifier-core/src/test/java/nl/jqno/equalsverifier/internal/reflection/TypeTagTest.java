@@ -23,6 +23,8 @@ class TypeTagTest {
         EqualsVerifier
                 .forClass(TypeTag.class)
                 .withPrefabValues(TypeTag.class, new TypeTag(Integer.class), SOME_LONG_TYPETAG)
+                .withCachedHashCode("cachedHashCode", "calculateHashCode", SOME_LONG_TYPETAG)
+                .withIgnoredFields("fieldTags")
                 .suppress(Warning.NULL_FIELDS)
                 .verify();
     }
@@ -62,6 +64,35 @@ class TypeTagTest {
         assertThat(actual).isEqualTo(new TypeTag(String.class));
     }
 
+    @Test
+    void resolvingSameFieldTwiceReturnsSameInstance() throws Exception {
+        Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
+        TypeTag enclosingType = TypeTag.of(enclosingField, TypeTag.NULL);
+        Field f = Container.class.getDeclaredField("t");
+
+        assertThat(TypeTag.of(f, enclosingType)).isSameAs(TypeTag.of(f, enclosingType));
+    }
+
+    @Test
+    void fieldsOfOtherTypesAreNotRemembered() throws Exception {
+        Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
+        TypeTag enclosingType = TypeTag.of(enclosingField, TypeTag.NULL);
+
+        assertThat(TypeTag.of(enclosingField, TypeTag.NULL)).isEqualTo(enclosingType).isNotSameAs(enclosingType);
+    }
+
+    @Test
+    void equalTagsHaveEqualHashCodes() {
+        var tag = new TypeTag(Map.class,
+                new TypeTag(String.class),
+                new TypeTag(List.class, new TypeTag(Integer.class)));
+        var same = new TypeTag(Map.class,
+                new TypeTag(String.class),
+                new TypeTag(List.class, new TypeTag(Integer.class)));
+
+        assertThat(same).isEqualTo(tag).hasSameHashCodeAs(tag);
+    }
+
     @Test
     void matchParameterizedGenericField() throws Exception {
         Field enclosingField = ContainerContainer.class.getDeclaredField("stringContainer");
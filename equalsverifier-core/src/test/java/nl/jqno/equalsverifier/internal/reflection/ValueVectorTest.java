@@ -0,0 +1,83 @@
+package nl.jqno.equalsverifier.internal.reflection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class ValueVectorTest {
+
+    private final FieldSlots superSlots = FieldSlots.of(Super.class);
+    private final FieldSlots subSlots = FieldSlots.of(Sub.class);
+
+    @Test
+    void slotsFollowFieldOrder() throws NoSuchFieldException {
+        assertThat(subSlots.size()).isEqualTo(2);
+        assertThat(subSlots.field(0)).isEqualTo(Sub.class.getDeclaredField("b"));
+        assertThat(subSlots.field(1)).isEqualTo(Super.class.getDeclaredField("a"));
+    }
+
+    @Test
+    void slotsAreSharedPerClass() {
+        assertThat(FieldSlots.of(Sub.class)).isSameAs(subSlots);
+    }
+
+    @Test
+    void indexOfUnknownField() throws NoSuchFieldException {
+        assertThat(superSlots.indexOf(Sub.class.getDeclaredField("b"))).isEqualTo(-1);
+    }
+
+    @Test
+    void emptyVectorHasNoValues() {
+        var sut = ValueVector.empty(subSlots);
+
+        assertThat(sut.get(0)).isNull();
+        assertThat(sut.get(1)).isNull();
+    }
+
+    @Test
+    void ofMapIgnoresUnknownFields() throws NoSuchFieldException {
+        var sut = ValueVector
+                .of(superSlots, Map.of(Super.class.getDeclaredField("a"), 1, Sub.class.getDeclaredField("b"), 2));
+
+        assertThat(sut.get(0)).isEqualTo(1);
+    }
+
+    @Test
+    void copyIsIndependent() {
+        var original = ValueVector.empty(subSlots).set(0, "x");
+        var copy = original.copy().set(0, "y").set(1, "z");
+
+        assertThat(original.get(0)).isEqualTo("x");
+        assertThat(original.get(1)).isNull();
+        assertThat(copy.get(0)).isEqualTo("y");
+    }
+
+    @Test
+    void inTranslatesToOtherSlots() {
+        var sub = ValueVector.empty(subSlots).set(0, "b").set(1, "a");
+        var sut = sub.in(superSlots);
+
+        assertThat(sut.slots()).isSameAs(superSlots);
+        assertThat(sut.get(0)).isEqualTo("a");
+    }
+
+    @Test
+    void inReturnsSameVectorForSameSlots() {
+        var sut = ValueVector.empty(subSlots);
+
+        assertThat(sut.in(subSlots)).isSameAs(sut);
+    }
+
+    @SuppressWarnings("unused")
+    static class Super {
+        private String a;
+    }
+
+    @SuppressWarnings("unused")
+    static class Sub extends Super {
+        private static String constant;
+        private String b;
+    }
+}
@@ -4,12 +4,17 @@ import static nl.jqno.equalsverifier.testhelpers.annotations.TestSupportedAnnota
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.lang.annotation.ElementType;
+import java.lang.reflect.Field;
+import java.util.EnumSet;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import javax.annotation.Nonnull;
 
 import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.pool.TypePool;
 import nl.jqno.equalsverifier.internal.reflection.SubtypeManager;
+import nl.jqno.equalsverifier.internal.reflection.SuperclassIterable;
 import nl.jqno.equalsverifier.testhelpers.annotations.TestSupportedAnnotations;
 import nl.jqno.equalsverifier.testhelpers.packages.annotated.AnnotatedPackage;
 import nl.jqno.equalsverifier_testhelpers.annotations.AnnotationWithValues;
@@ -27,6 +32,9 @@ class AnnotationCacheBuilderTest {
     private static final String NO_RETENTION = "noRetention";
 
     private static final Set<String> NO_INGORED_ANNOTATIONS = new HashSet<>();
+    private static final Set<TestSupportedAnnotations> CLASS_RETENTIONS =
+            EnumSet.of(TYPE_CLASS_RETENTION, FIELD_CLASS_RETENTION, TYPEUSE_CLASS_RETENTION, METHOD_CLASS_RETENTION,
+                PACKAGE_ANNOTATION, INAPPLICABLE, POST_PROCESS);
 
     private AnnotationCacheBuilder cacheBuilder;
     private AnnotationCache cache;
@@ -287,12 +295,87 @@ class AnnotationCacheBuilderTest {
         build(sub);
     }
 
+    @Test
+    void reflectionFindsSameRuntimeAnnotationsAsBytecode() {
+        var types = List
+                .of(
+                    AnnotatedWithRuntime.class,
+                    AnnotatedFields.class,
+                    AnnotatedTypes.class,
+                    AnnotatedMethods.class,
+                    SubclassWithAnnotations.class,
+                    AnnotatedOuter.AnnotatedMiddle.AnnotatedInner.class);
+        var reflectionCache = new AnnotationCache();
+        var reflectionBuilder = new AnnotationCacheBuilder(TestSupportedAnnotations.values(),
+                NO_INGORED_ANNOTATIONS,
+                TypePool.Default::of,
+                type -> false);
+        build(types.toArray(new Class<?>[0]));
+        types.forEach(t -> reflectionBuilder.build(t, reflectionCache));
+
+        types.forEach(t -> assertSameRuntimeAnnotations(t, reflectionCache));
+    }
+
+    @Test
+    void reflectionFindsAnnotationParameters() {
+        AnnotationWithClassValuesAnnotation annotation = new AnnotationWithClassValuesAnnotation();
+        Annotation[] supportedAnnotations = { annotation };
+        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(supportedAnnotations,
+                NO_INGORED_ANNOTATIONS,
+                TypePool.Default::of,
+                type -> false);
+        acb.build(AnnotationWithValuesContainer.class, cache);
+
+        assertThat(annotation.properties.getEnumValue("elementType")).isEqualTo("FIELD");
+        assertThat(annotation.properties.getArrayValues("annotations"))
+                .contains("javax.annotation.Nonnull", "nl.jqno.equalsverifier_testhelpers.annotations.NotNull");
+    }
+
+    @Test
+    void reflectionDoesNotReadClassFiles() {
+        AnnotationCacheBuilder acb = new AnnotationCacheBuilder(TestSupportedAnnotations.values(),
+                NO_INGORED_ANNOTATIONS,
+                loader -> {
+                    throw new AssertionError("Class files should not be read");
+                },
+                type -> false);
+        acb.build(AnnotatedRecord.class, cache);
+
+        assertFieldHasAnnotation(AnnotatedRecord.class, "s", FIELD_RUNTIME_RETENTION);
+    }
+
     private void build(Class<?>... types) {
         for (Class<?> type : types) {
             cacheBuilder.build(type, cache);
         }
     }
 
+    private void assertSameRuntimeAnnotations(Class<?> type, AnnotationCache reflectionCache) {
+        for (TestSupportedAnnotations a : TestSupportedAnnotations.values()) {
+            if (CLASS_RETENTIONS.contains(a)) {
+                continue;
+            }
+            assertThat(reflectionCache.hasClassAnnotation(type, a))
+                    .as(type.getSimpleName() + " " + a)
+                    .isEqualTo(cache.hasClassAnnotation(type, a));
+            SuperclassIterable
+                    .ofIncludeSelf(type)
+                    .forEach(c -> assertSameFieldAnnotations(type, c.getDeclaredFields(), a, reflectionCache));
+        }
+    }
+
+    private void assertSameFieldAnnotations(
+            Class<?> type,
+            Field[] fields,
+            TestSupportedAnnotations a,
+            AnnotationCache reflectionCache) {
+        for (Field f : fields) {
+            assertThat(reflectionCache.hasFieldAnnotation(type, f.getName(), a))
+                    .as(type.getSimpleName() + "." + f.getName() + " " + a)
+                    .isEqualTo(cache.hasFieldAnnotation(type, f.getName(), a));
+        }
+    }
+
     private void assertTypeHasAnnotation(Class<?> type, Annotation annotation) {
         assertThat(cache.hasClassAnnotation(type, annotation)).isTrue();
     }
@@ -335,4 +418,6 @@ class AnnotationCacheBuilderTest {
 
     @AnnotationWithValues(annotations = { Nonnull.class, NotNull.class }, elementType = ElementType.FIELD)
     private static final class AnnotationWithValuesContainer {}
+
+    record AnnotatedRecord(@FieldAnnotationRuntimeRetention String s) {}
 }
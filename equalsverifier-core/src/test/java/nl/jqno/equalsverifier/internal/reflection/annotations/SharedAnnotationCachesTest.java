@@ -0,0 +1,132 @@
+package nl.jqno.equalsverifier.internal.reflection.annotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import javax.annotation.Nonnull;
+
+import nl.jqno.equalsverifier.internal.reflection.SubtypeManager;
+import org.junit.jupiter.api.Test;
+
+class SharedAnnotationCachesTest {
+
+    private final SharedAnnotationCaches sut = new SharedAnnotationCaches();
+
+    @Test
+    void findsAnnotations() {
+        var cache = sut.get(Annotated.class, Set.of());
+
+        assertThat(cache.hasFieldAnnotation(Annotated.class, "s", SupportedAnnotations.NONNULL)).isTrue();
+    }
+
+    @Test
+    void returnsSameCache_forSameClass() {
+        assertThat(sut.get(Annotated.class, Set.of())).isSameAs(sut.get(Annotated.class, Set.of()));
+    }
+
+    @Test
+    void returnsOtherCache_forOtherIgnoredAnnotations() {
+        var ignored = sut.get(Annotated.class, Set.of(Nonnull.class.getCanonicalName()));
+
+        assertThat(ignored).isNotSameAs(sut.get(Annotated.class, Set.of()));
+        assertThat(ignored.hasFieldAnnotation(Annotated.class, "s", SupportedAnnotations.NONNULL)).isFalse();
+    }
+
+    @Test
+    void sharesTypePoolPerClassLoader() {
+        var loader = getClass().getClassLoader();
+
+        assertThat(sut.pool(loader)).isSameAs(sut.pool(loader));
+        assertThat(sut.pool(null)).isSameAs(sut.pool(null)).isNotSameAs(sut.pool(loader));
+    }
+
+    @Test
+    void needsBytecode_whenClassHasClassRetentionAnnotation() {
+        assertThat(sut.needsBytecode(ClassRetentionAnnotated.class)).isTrue();
+    }
+
+    @Test
+    void needsBytecode_whenSuperclassHasClassRetentionAnnotation() {
+        assertThat(sut.needsBytecode(ClassRetentionAnnotatedSubclass.class)).isTrue();
+    }
+
+    @Test
+    void needsBytecode_whenOuterClassHasClassRetentionAnnotation() {
+        assertThat(sut.needsBytecode(ClassRetentionAnnotated.Inner.class)).isTrue();
+    }
+
+    @Test
+    void needsBytecode_whenClassFileCantBeFound() {
+        Class<?> type = SubtypeManager.giveDynamicSubclass(Object.class);
+        assertThat(sut.needsBytecode(type)).isTrue();
+    }
+
+    @Test
+    void needsNoBytecode_whenClassOnlyHasRuntimeRetentionAnnotations() {
+        assertThat(sut.needsBytecode(Annotated.class)).isFalse();
+    }
+
+    @Test
+    void needsNoBytecode_forJdkClass() {
+        assertThat(sut.needsBytecode(String.class)).isFalse();
+    }
+
+    @Test
+    void findsClassRetentionAnnotations() {
+        var cache = sut.get(ClassRetentionAnnotated.class, Set.of());
+
+        assertThat(cache.hasClassAnnotation(ClassRetentionAnnotated.class, SupportedAnnotations.IMMUTABLE)).isTrue();
+        assertThat(cache.hasFieldAnnotation(ClassRetentionAnnotated.class, "s", SupportedAnnotations.NONNULL))
+                .isTrue();
+    }
+
+    @Test
+    void buildsCachesConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<AnnotationCache>> tasks = IntStream
+                    .range(0, 8)
+                    .<Callable<AnnotationCache>>mapToObj(i -> () -> sut.get(Annotated.class, Set.of()))
+                    .toList();
+            var results = executor.invokeAll(tasks);
+            var first = results.get(0).get();
+            for (Future<AnnotationCache> f : results) {
+                assertThat(f.get()).isSameAs(first);
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Annotated {
+        @Nonnull
+        private String s;
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Immutable {}
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface NotNull {}
+
+    @Immutable
+    @SuppressWarnings("unused")
+    static class ClassRetentionAnnotated {
+        @NotNull
+        private String s;
+
+        static final class Inner {}
+    }
+
+    static final class ClassRetentionAnnotatedSubclass extends ClassRetentionAnnotated {}
+}
@@ -3,6 +3,7 @@ package nl.jqno.equalsverifier.internal.util;
 import java.util.*;
 
 import nl.jqno.equalsverifier.Warning;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SharedAnnotationCaches;
 
 public final class ConfigurationHelper {
 
@@ -24,6 +25,7 @@ public final class ConfigurationHelper {
                     Collections.emptySet(),
                     null,
                     Collections.emptySet(),
+                    new SharedAnnotationCaches(),
                     Collections.emptySet(),
                     Collections.emptyList(),
                     Collections.emptyList());
@@ -45,6 +47,7 @@ public final class ConfigurationHelper {
                     Collections.emptySet(),
                     null,
                     Collections.emptySet(),
+                    new SharedAnnotationCaches(),
                     Collections.emptySet(),
                     Collections.emptyList(),
                     Collections.emptyList());
@@ -68,6 +71,7 @@ public final class ConfigurationHelper {
                     Collections.emptySet(),
                     null,
                     Collections.emptySet(),
+                    new SharedAnnotationCaches(),
                     Collections.emptySet(),
                     Collections.emptyList(),
                     Collections.emptyList());
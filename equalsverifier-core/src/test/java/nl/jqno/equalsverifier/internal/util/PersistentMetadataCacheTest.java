@@ -0,0 +1,305 @@
+package nl.jqno.equalsverifier.internal.util;
+
+import static nl.jqno.equalsverifier.internal.util.Rethrow.rethrow;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import nl.jqno.equalsverifier.internal.reflection.ClassFileStamps;
+import nl.jqno.equalsverifier.internal.reflection.annotations.Annotation;
+import nl.jqno.equalsverifier.internal.reflection.annotations.AnnotationCache;
+import nl.jqno.equalsverifier.internal.reflection.annotations.SupportedAnnotations;
+import nl.jqno.equalsverifier.internal.util.PersistentMetadataCache.Metadata;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentMetadataCacheTest {
+
+    // The offset of the EqualsVerifier version, after the magic number, the format version and the string's length
+    private static final int VERSION_OFFSET = 12;
+
+    @TempDir
+    private Path directory;
+
+    @TempDir
+    private Path classFiles;
+
+    private PersistentMetadataCache sut;
+    private final AtomicInteger derivations = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        sut = newSession();
+    }
+
+    @Test
+    void derivesAndStores_whenThereIsNoEntry() throws IOException {
+        var actual = sut.get(Person.class, Set.of(), derive(metadata()));
+
+        assertThat(derivations).hasValue(1);
+        assertSameMetadata(actual, metadata());
+        assertThat(entry()).exists();
+    }
+
+    @Test
+    void readsStoredEntry_withoutDeriving() {
+        sut.get(Person.class, Set.of(), derive(metadata()));
+        var actual = newSession().get(Person.class, Set.of(), derive(metadata()));
+
+        assertThat(derivations).hasValue(1);
+        assertThat(actual.annotationCache()).isNotSameAs(metadata().annotationCache());
+        assertSameMetadata(actual, metadata());
+    }
+
+    @Test
+    void keepsSeparateEntries_forDifferentIgnoredAnnotations() {
+        sut.get(Person.class, Set.of(), derive(metadata()));
+        sut.get(Person.class, Set.of("javax.persistence.Id"), derive(metadata()));
+        sut.get(Person.class, Set.of("javax.persistence.Id"), derive(metadata()));
+
+        assertThat(derivations).hasValue(2);
+    }
+
+    @Test
+    void derivesAgain_whenEntryIsFromAnotherVersion() throws IOException {
+        sut.get(Person.class, Set.of(), derive(metadata()));
+        var bytes = Files.readAllBytes(entry());
+        bytes[VERSION_OFFSET] = (byte) (bytes[VERSION_OFFSET] + 1);
+        Files.write(entry(), bytes);
+
+        var actual = newSession().get(Person.class, Set.of(), derive(metadata()));
+
+        assertThat(derivations).hasValue(2);
+        assertSameMetadata(actual, metadata());
+        assertThat(Files.readAllBytes(entry())[VERSION_OFFSET]).isNotEqualTo(bytes[VERSION_OFFSET]);
+    }
+
+    @Test
+    void derivesAgain_whenClassFileChanges() throws Exception {
+        var loader = new SwappingClassLoader();
+        Class<?> type = loader.loadClass(Marked.class.getName());
+        assertThat(type.getClassLoader()).isSameAs(loader);
+        sut.get(type, Set.of(), derive(metadata()));
+
+        loader.replace(Marked.class, resource(Person.class));
+        newSession().get(type, Set.of(), derive(metadata()));
+        assertThat(derivations).hasValue(2);
+    }
+
+    @Test
+    void readsStoredEntry_whenClassFileIsWrittenAgainWithSameContent() throws Exception {
+        var loader = new SwappingClassLoader();
+        Class<?> type = loader.loadClass(Marked.class.getName());
+        loader.replace(Marked.class, resource(Marked.class));
+        sut.get(type, Set.of(), derive(metadata()));
+
+        // As when a CI run compiles the class again, in another checkout
+        loader.replace(Marked.class, resource(Marked.class));
+        newSession().get(type, Set.of(), derive(metadata()));
+        assertThat(derivations).hasValue(1);
+    }
+
+    @Test
+    void derivesAgain_whenAnnotationTypeChanges() throws Exception {
+        var loader = new SwappingClassLoader();
+        Class<?> type = loader.loadClass(Marked.class.getName());
+        sut.get(type, Set.of(), derive(metadata()));
+        sut.get(type, Set.of(), derive(metadata()));
+        assertThat(derivations).hasValue(1);
+
+        loader.replace(Marker.class, resource(OtherMarker.class));
+        var next = newSession();
+        next.get(type, Set.of(), derive(metadata()));
+        next.get(type, Set.of(), derive(metadata()));
+        assertThat(derivations).hasValue(2);
+    }
+
+    @Test
+    void derivesAgain_whenAnnotationTypeDisappears() throws Exception {
+        var loader = new SwappingClassLoader();
+        Class<?> type = loader.loadClass(Marked.class.getName());
+        sut.get(type, Set.of(), derive(metadata()));
+
+        loader.hide(Marker.class);
+        newSession().get(type, Set.of(), derive(metadata()));
+        assertThat(derivations).hasValue(2);
+    }
+
+    @Test
+    void stampsClassFilesOncePerSession() throws Exception {
+        var loader = new SwappingClassLoader();
+        Class<?> type = loader.loadClass(Marked.class.getName());
+        sut.get(type, Set.of(), derive(metadata()));
+
+        loader.hide(Marker.class);
+        sut.get(type, Set.of(), derive(metadata()));
+        assertThat(derivations).hasValue(1);
+    }
+
+    @Test
+    void derivesAgain_whenEntryIsTruncated() throws IOException {
+        sut.get(Person.class, Set.of(), derive(metadata()));
+        var bytes = Files.readAllBytes(entry());
+        Files.write(entry(), java.util.Arrays.copyOf(bytes, bytes.length - 3));
+
+        var actual = sut.get(Person.class, Set.of(), derive(metadata()));
+
+        assertThat(derivations).hasValue(2);
+        assertSameMetadata(actual, metadata());
+    }
+
+    @Test
+    void doesNotStore_whenAnnotationsAreNotSupportedAnnotations() throws IOException {
+        var cache = new AnnotationCache();
+        cache.addClassAnnotation(Person.class, new CustomAnnotation());
+        sut.get(Person.class, Set.of(), derive(new Metadata(cache, Set.of(), Set.of())));
+
+        try (var files = Files.list(directory)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    @Test
+    void derives_whenDirectoryCannotBeWritten() throws IOException {
+        var file = Files.createFile(directory.resolve("file"));
+        var cache = new PersistentMetadataCache(file, new ClassFileStamps());
+
+        var actual = cache.get(Person.class, Set.of(), derive(metadata()));
+        cache.get(Person.class, Set.of(), derive(metadata()));
+
+        assertThat(derivations).hasValue(2);
+        assertSameMetadata(actual, metadata());
+    }
+
+    private PersistentMetadataCache newSession() {
+        return new PersistentMetadataCache(directory, new ClassFileStamps());
+    }
+
+    private Supplier<Metadata> derive(Metadata metadata) {
+        return () -> {
+            derivations.incrementAndGet();
+            return metadata;
+        };
+    }
+
+    private Path entry() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.filter(p -> p.toString().endsWith(".bin")).findFirst().orElseThrow();
+        }
+    }
+
+    private static Metadata metadata() {
+        var cache = new AnnotationCache();
+        cache.addClassAnnotation(Person.class, SupportedAnnotations.ENTITY);
+        cache.addFieldAnnotation(Person.class, "id", SupportedAnnotations.ID);
+        cache.addFieldAnnotation(Person.class, "id", SupportedAnnotations.NONNULL);
+        cache.addField(Person.class, "name");
+        cache.addFieldAnnotation(Object.class, "inherited", SupportedAnnotations.TRANSIENT);
+        return new Metadata(cache, Set.of("ignored"), Set.of("delegate"));
+    }
+
+    private static void assertSameMetadata(Metadata actual, Metadata expected) {
+        var actualCache = actual.annotationCache();
+        var expectedCache = expected.annotationCache();
+        assertThat(actualCache.types()).isEqualTo(expectedCache.types());
+        for (Class<?> type : expectedCache.types()) {
+            assertThat(actualCache.classAnnotations(type)).isEqualTo(expectedCache.classAnnotations(type));
+            assertThat(actualCache.fieldAnnotations(type)).isEqualTo(expectedCache.fieldAnnotations(type));
+        }
+        assertThat(actual.kotlinIgnoredFields()).isEqualTo(expected.kotlinIgnoredFields());
+        assertThat(actual.kotlinNonnullFields()).isEqualTo(expected.kotlinNonnullFields());
+    }
+
+    private static String resourceName(Class<?> type) {
+        return type.getName().replace('.', '/') + ".class";
+    }
+
+    private static byte[] resource(Class<?> type) throws IOException {
+        try (var in = type.getClassLoader().getResourceAsStream(resourceName(type))) {
+            return in.readAllBytes();
+        }
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Marker {}
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface OtherMarker {}
+
+    @Marker
+    static final class Marked {}
+
+    /**
+     * Defines {@link Marked} and its enclosing class itself, so they can see each other, and can change the class files
+     * that it provides as resources.
+     */
+    private final class SwappingClassLoader extends ClassLoader {
+        private final Map<String, URL> resources = new HashMap<>();
+
+        SwappingClassLoader() {
+            super(PersistentMetadataCacheTest.class.getClassLoader());
+        }
+
+        void replace(Class<?> type, byte[] bytes) throws IOException {
+            Path file = Files.createTempFile(classFiles, type.getSimpleName(), ".class");
+            Files.write(file, bytes);
+            resources.put(resourceName(type), file.toUri().toURL());
+        }
+
+        void hide(Class<?> type) {
+            resources.put(resourceName(type), null);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            Class<?> own = name.equals(Marked.class.getName()) ? Marked.class
+                    : name.equals(PersistentMetadataCacheTest.class.getName()) ? PersistentMetadataCacheTest.class
+                    : null;
+            if (own == null) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> result = findLoadedClass(name);
+                if (result == null) {
+                    byte[] bytes = rethrow(() -> resource(own));
+                    result = defineClass(name, bytes, 0, bytes.length);
+                }
+                return result;
+            }
+        }
+
+        @Override
+        public URL getResource(String name) {
+            return resources.containsKey(name) ? resources.get(name) : super.getResource(name);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static final class Person {
+        private int id;
+        private String name;
+    }
+
+    static final class CustomAnnotation implements Annotation {
+        @Override
+        public Set<String> partialClassNames() {
+            return Set.of("Custom");
+        }
+
+        @Override
+        public boolean inherits() {
+            return false;
+        }
+    }
+}
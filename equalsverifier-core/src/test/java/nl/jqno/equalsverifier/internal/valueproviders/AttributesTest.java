@@ -2,6 +2,9 @@ package nl.jqno.equalsverifier.internal.valueproviders;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import org.junit.jupiter.api.Test;
 
@@ -84,4 +87,38 @@ class AttributesTest {
         assertThat(original.typeStackContains(SOME_TAG)).isFalse();
         assertThat(original.typeStack()).isEmpty();
     }
+
+    @Test
+    void clearCacheKey_preservesStack() {
+        var attrs = Attributes.named("testField").addToStack(SOME_TAG).clearCacheKey();
+        assertThat(attrs.typeStackContains(SOME_TAG)).isTrue();
+    }
+
+    @Test
+    void typeStack_isOrderedFromTheBottomUp() {
+        var attrs = Attributes.empty().addToStack(SOME_TAG).addToStack(ANOTHER_TAG);
+        assertThat(attrs.typeStack()).containsExactly(SOME_TAG, ANOTHER_TAG);
+    }
+
+    @Test
+    void typeStackContains_withManyTypes() {
+        List<TypeTag> tags = new ArrayList<>();
+        for (Class<?> c : new Class<?>[] { String.class, Integer.class, Long.class, Short.class, Byte.class,
+                Character.class, Boolean.class, Double.class, Float.class, Object.class, List.class }) {
+            tags.add(new TypeTag(c));
+            tags.add(new TypeTag(List.class, new TypeTag(c)));
+        }
+
+        var attrs = Attributes.empty();
+        for (TypeTag tag : tags.subList(0, tags.size() / 2)) {
+            attrs = attrs.addToStack(tag);
+        }
+
+        for (TypeTag tag : tags.subList(0, tags.size() / 2)) {
+            assertThat(attrs.typeStackContains(tag)).isTrue();
+        }
+        for (TypeTag tag : tags.subList(tags.size() / 2, tags.size())) {
+            assertThat(attrs.typeStackContains(tag)).isFalse();
+        }
+    }
 }
@@ -43,6 +43,14 @@ public class BuiltinPrefabValueProviderTest {
         assertThat(sut.provide(tag, Attributes.named(SOME_FIELDNAME))).isEmpty();
     }
 
+    @Test
+    void returnsSameValuesFromEveryInstance() {
+        var tag = new TypeTag(Instant.class);
+        var first = sut.provide(tag, Attributes.named(SOME_FIELDNAME)).get();
+        var second = new BuiltinPrefabValueProvider().provide(tag, Attributes.empty()).get();
+        assertThat(second).isSameAs(first);
+    }
+
     @Test
     void returnsValueFromOtherPackage() {
         check(Pattern.class);
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import org.junit.jupiter.api.Test;
 
@@ -16,9 +17,10 @@ public class CachingValueProviderTest {
     private static final TypeTag OTHER_TAG = new TypeTag(short.class);
 
     private FieldCache cache = new FieldCache();
-    private ValueProvider fallback = new Fallback();
+    private TypeCache typeCache = new TypeCache();
+    private Fallback fallback = new Fallback();
     private UserPrefabValueCaches prefabs = new UserPrefabValueCaches();
-    private CachingValueProvider sut = new CachingValueProvider(prefabs, cache, fallback);
+    private CachingValueProvider sut = new CachingValueProvider(prefabs, cache, typeCache, false, fallback);
 
     @Test
     void noValueAvailable() {
@@ -73,11 +75,91 @@ public class CachingValueProviderTest {
         assertThat(sut.provide(SOME_TAG, Attributes.empty())).isEmpty();
     }
 
+    @Test
+    void addsToTypeCache() {
+        sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+        assertThat(typeCache.get(null, FALLBACK_TAG)).isEqualTo(new Tuple<>(42, 1337, 42));
+    }
+
+    @Test
+    void useTypeCachedValueForOtherField() {
+        var first = sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+        var second = sut.provide(FALLBACK_TAG, Attributes.named("somethingElse"));
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(fallback.calls).isEqualTo(1);
+    }
+
+    @Test
+    void shareTypeCacheWithOtherCachingValueProvider() {
+        sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+        var other = new CachingValueProvider(prefabs, new FieldCache(), typeCache, false, fallback);
+        other.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+
+        assertThat(fallback.calls).isEqualTo(1);
+    }
+
+    @Test
+    void dontUseTypeCachedValueForOtherField_givenValuesAreFieldSpecific() {
+        sut = new CachingValueProvider(prefabs, cache, typeCache, true, fallback);
+        sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+        sut.provide(FALLBACK_TAG, Attributes.named("somethingElse"));
+
+        assertThat(fallback.calls).isEqualTo(2);
+        assertThat(typeCache.get(SOME_FIELD, FALLBACK_TAG)).isNotNull();
+    }
+
+    @Test
+    void dontAddToTypeCacheIfUserPrefabsSayNotTo() {
+        prefabs.registerResettable(int.class, () -> 42, () -> 1337, () -> 42);
+        sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+        assertThat(typeCache.size()).isEqualTo(0);
+    }
+
+    @Test
+    void dontUseTypeCachedValueIfUserPrefabsSayNotTo() {
+        typeCache.putIfAbsent(null, FALLBACK_TAG, new Tuple<>(1, 2, 1));
+        prefabs.registerResettable(int.class, () -> 42, () -> 1337, () -> 42);
+        assertThat(sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD))).contains(new Tuple<>(42, 1337, 42));
+    }
+
+    @Test
+    void cacheNestedValueByType() {
+        var first = sut.provide(FALLBACK_TAG, Attributes.empty());
+        var second = sut.provide(FALLBACK_TAG, Attributes.empty().addToStack(SOME_TAG));
+
+        assertThat(second.get()).isSameAs(first.get());
+        assertThat(fallback.calls).isEqualTo(1);
+        assertThat(typeCache.get(null, FALLBACK_TAG)).isSameAs(first.get());
+    }
+
+    @Test
+    void useNestedValueForField() {
+        var nested = sut.provide(FALLBACK_TAG, Attributes.empty());
+        var field = sut.provide(FALLBACK_TAG, Attributes.named(SOME_FIELD));
+
+        assertThat(field.get()).isSameAs(nested.get());
+        assertThat(cache.get(SOME_FIELD, FALLBACK_TAG)).isSameAs(nested.get());
+    }
+
+    @Test
+    void dontCacheNestedValueIfUserPrefabsSayNotTo() {
+        prefabs.registerResettable(int.class, () -> 42, () -> 1337, () -> 42);
+        sut.provide(FALLBACK_TAG, Attributes.empty());
+        sut.provide(FALLBACK_TAG, Attributes.empty());
+
+        assertThat(fallback.calls).isEqualTo(2);
+        assertThat(typeCache.size()).isEqualTo(0);
+    }
+
     private static final class Fallback implements ValueProvider {
 
+        private int calls = 0;
+
         @Override
         @SuppressWarnings("unchecked")
         public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
+            calls++;
             if (FALLBACK_TAG.getType().equals(tag.getType())) {
                 return Optional.of((Tuple<T>) new Tuple<>(42, 1337, 42));
             }
@@ -61,6 +61,43 @@ public class ChainedValueProviderTest {
         assertThat(anotherIntProvider.called).isEqualTo(0);
     }
 
+    @Test
+    public void routingSkipsProvidersThatDidntMatchBefore() {
+        sut = ChainedValueProvider.routing(stringProvider, intProvider);
+        sut.provideOrThrow(INT, Attributes.named(SOME_FIELDNAME));
+        sut.provideOrThrow(INT, Attributes.named(SOME_FIELDNAME));
+
+        assertThat(stringProvider.called).isEqualTo(1);
+        assertThat(intProvider.called).isEqualTo(2);
+    }
+
+    @Test
+    public void routingReturnsValueFromFirstMatch() {
+        var anotherIntProvider = new SingleTypeValueProvider<>(int.class, 3, 4, 3);
+        sut = ChainedValueProvider.routing(stringProvider, intProvider, anotherIntProvider);
+
+        assertThat(sut.provideOrThrow(INT, Attributes.named(SOME_FIELDNAME)).red()).isEqualTo(1);
+        assertThat(sut.provideOrThrow(INT, Attributes.named(SOME_FIELDNAME)).red()).isEqualTo(1);
+        assertThat(anotherIntProvider.called).isEqualTo(0);
+    }
+
+    @Test
+    public void routingKeepsTypesSeparate() {
+        sut = ChainedValueProvider.routing(stringProvider, intProvider);
+        sut.provideOrThrow(INT, Attributes.named(SOME_FIELDNAME));
+
+        assertThat(sut.provideOrThrow(new TypeTag(String.class), Attributes.named(SOME_FIELDNAME)).red())
+                .isEqualTo("a");
+    }
+
+    @Test
+    public void routingReturnsEmptyIfNoMatch() {
+        sut = ChainedValueProvider.routing(stringProvider);
+        assertThat(sut.provide(INT, Attributes.named(SOME_FIELDNAME))).isEmpty();
+        assertThat(sut.provide(INT, Attributes.named(SOME_FIELDNAME))).isEmpty();
+        assertThat(stringProvider.called).isEqualTo(2);
+    }
+
     static class SingleTypeValueProvider<X> implements ValueProvider {
 
         private final Class<X> type;
@@ -7,6 +7,7 @@ import java.util.Set;
 
 import nl.jqno.equalsverifier.Mode;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import nl.jqno.equalsverifier.internal.util.ValueProviderBuilder;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,8 @@ public class IntegratedValueProviderModernFeaturesTest {
     private static final Attributes SOME_ATTRIBUTES = Attributes.named("someFieldName");
 
     private UserPrefabValueCaches prefabs = new UserPrefabValueCaches();
-    private ValueProvider sut = ValueProviderBuilder.build(SKIP_MOCKITO, prefabs, new FieldCache(), new ObjenesisStd());
+    private ValueProvider sut = ValueProviderBuilder
+            .build(SKIP_MOCKITO, prefabs, new FieldCache(), new TypeCache(), new ObjenesisStd());
 
     @Test
     void redCopyHasTheSameValuesAsRed_whenSutContainsGenericValueThatNeedsToBeIdenticalInRedAndRedCopy() {
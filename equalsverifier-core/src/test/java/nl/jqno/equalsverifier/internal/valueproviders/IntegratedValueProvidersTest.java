@@ -13,6 +13,7 @@ import nl.jqno.equalsverifier.internal.exceptions.ModuleException;
 import nl.jqno.equalsverifier.internal.exceptions.RecursionException;
 import nl.jqno.equalsverifier.internal.reflection.FieldCache;
 import nl.jqno.equalsverifier.internal.reflection.Tuple;
+import nl.jqno.equalsverifier.internal.reflection.TypeCache;
 import nl.jqno.equalsverifier.internal.reflection.TypeTag;
 import nl.jqno.equalsverifier.internal.util.ValueProviderBuilder;
 import nl.jqno.equalsverifier_testhelpers.ExpectedException;
@@ -28,7 +29,8 @@ public class IntegratedValueProvidersTest {
     private static final Attributes SOME_ATTRIBUTES = Attributes.named("someFieldName");
 
     private UserPrefabValueCaches prefabs = new UserPrefabValueCaches();
-    private ValueProvider sut = ValueProviderBuilder.build(SKIP_MOCKITO, prefabs, new FieldCache(), new ObjenesisStd());
+    private ValueProvider sut = ValueProviderBuilder
+            .build(SKIP_MOCKITO, prefabs, new FieldCache(), new TypeCache(), new ObjenesisStd());
 
     @Test
     void instantiateAllTypes() {
@@ -205,6 +205,46 @@ class SubjectCreatorTest {
         assertThat(actual.getClass()).isEqualTo(SomeSub.class);
     }
 
+    @Test
+    void plain_returnsNewInstanceEveryTime() {
+        var first = sut.plain();
+        var second = sut.plain();
+
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+    }
+
+    @Test
+    void templatesAreResolvedOnlyOnce() {
+        var counting = new CountingValueProvider(valueProvider);
+        sut = new SubjectCreator<>(config, counting, objenesis);
+
+        sut.plain();
+        sut.withFieldChanged(fieldI);
+        sut.withAllFieldsChanged();
+        sut.withAllFieldsDefaulted();
+        final int calls = counting.calls;
+        sut.plain();
+        sut.withFieldChanged(fieldI);
+        sut.withAllFieldsChanged();
+        sut.withAllFieldsDefaulted();
+
+        assertThat(counting.calls).isEqualTo(calls);
+    }
+
+    @Test
+    void templatesAreNotKept_whenAFieldHasResettablePrefabValues() {
+        var prefabs = new UserPrefabValueCaches();
+        prefabs.registerResettable(String.class, () -> S_RED, () -> S_BLUE, () -> new String(S_RED));
+        var counting = new CountingValueProvider(valueProvider);
+        sut = new SubjectCreator<>(config, counting, prefabs, objenesis);
+
+        sut.plain();
+        int calls = counting.calls;
+        sut.plain();
+
+        assertThat(counting.calls).isEqualTo(2 * calls);
+    }
+
     @Test
     void noValueFound() {
         sut = new SubjectCreator<>(config, new NoValueProvider(), objenesis);
@@ -237,6 +277,22 @@ class SubjectCreatorTest {
         }
     }
 
+    static class CountingValueProvider implements ValueProvider {
+
+        private final ValueProvider delegate;
+        private int calls = 0;
+
+        CountingValueProvider(ValueProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public <T> Optional<Tuple<T>> provide(TypeTag tag, Attributes attributes) {
+            calls++;
+            return delegate.provide(tag, attributes);
+        }
+    }
+
     static class NoValueProvider implements ValueProvider {
 
         @Override
@@ -0,0 +1,67 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.integration.extra_features.classretention.ImmutableWithClassRetention;
+import nl.jqno.equalsverifier.integration.extra_features.classretention.NonnullWithClassRetention;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AnnotationClassRetentionTest {
+
+    // Loads the test classes, but none of the annotation libraries that are on the test class path
+    private URLClassLoader isolatedLoader;
+
+    @BeforeEach
+    void setUp() {
+        URL testClasses = getClass().getProtectionDomain().getCodeSource().getLocation();
+        isolatedLoader = new URLClassLoader(new URL[] { testClasses }, ClassLoader.getPlatformClassLoader());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        isolatedLoader.close();
+    }
+
+    @Test
+    void isolatedLoaderCantLoadAnnotationLibraries() {
+        assertThatThrownBy(() -> isolatedLoader.loadClass("javax.annotation.Nonnull"))
+                .isInstanceOf(ClassNotFoundException.class);
+        assertThatThrownBy(() -> isolatedLoader.loadClass("edu.umd.cs.findbugs.annotations.NonNull"))
+                .isInstanceOf(ClassNotFoundException.class);
+    }
+
+    @Test
+    void succeed_whenFieldHasCustomNonnullAnnotationWithClassRetention() {
+        EqualsVerifier.forClass(NonnullWithClassRetention.class).verify();
+    }
+
+    @Test
+    void succeed_whenFieldHasCustomNonnullAnnotationWithClassRetention_givenNoAnnotationLibraries()
+            throws Exception {
+        Class<?> type = isolatedLoader.loadClass(NonnullWithClassRetention.class.getName());
+        assertThat(type.getClassLoader()).isSameAs(isolatedLoader);
+
+        EqualsVerifier.forClass(type).verify();
+    }
+
+    @Test
+    void succeed_whenClassHasCustomImmutableAnnotationWithClassRetention() {
+        EqualsVerifier.forClass(ImmutableWithClassRetention.class).verify();
+    }
+
+    @Test
+    void succeed_whenClassHasCustomImmutableAnnotationWithClassRetention_givenNoAnnotationLibraries()
+            throws Exception {
+        Class<?> type = isolatedLoader.loadClass(ImmutableWithClassRetention.class.getName());
+        assertThat(type.getClassLoader()).isSameAs(isolatedLoader);
+
+        EqualsVerifier.forClass(type).verify();
+    }
+}
@@ -0,0 +1,162 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import nl.jqno.equalsverifier_testhelpers.types.FinalPoint;
+import org.junit.jupiter.api.Test;
+
+class ParallelFieldChecksTest {
+
+    @Test
+    void succeed_whenClassIsCorrect() {
+        EqualsVerifier.forClass(FinalPoint.class).set(Mode.parallelFieldChecks()).verify();
+        EqualsVerifier.forClass(ManyFields.class).set(Mode.parallelFieldChecks()).verify();
+    }
+
+    @Test
+    void succeed_whenClassHasStaticFields() {
+        EqualsVerifier.forClass(StaticFields.class).set(Mode.parallelFieldChecks()).verify();
+    }
+
+    @Test
+    void fail_whenFieldsAreMissingFromEquals() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClass(MissingFields.class).set(Mode.parallelFieldChecks()).verify())
+                .assertFailure()
+                .assertMessageContains("Significant fields", "b");
+    }
+
+    @Test
+    void reportsTheSameFailureAsSequentialChecks() {
+        var sequential = EqualsVerifier.forClass(MissingFields.class).report();
+        var parallel = EqualsVerifier.forClass(MissingFields.class).set(Mode.parallelFieldChecks()).report();
+
+        assertThat(parallel.isSuccessful()).isFalse();
+        assertThat(parallel.getMessage()).isEqualTo(sequential.getMessage());
+    }
+
+    @Test
+    void reportsTheSameNullFailureAsSequentialChecks() {
+        var sequential = EqualsVerifier.forClass(NullableFields.class).report();
+        var parallel = EqualsVerifier.forClass(NullableFields.class).set(Mode.parallelFieldChecks()).report();
+
+        assertThat(parallel.isSuccessful()).isFalse();
+        assertThat(parallel.getMessage()).isEqualTo(sequential.getMessage());
+    }
+
+    static final class ManyFields {
+
+        private final int a;
+        private final String b;
+        private final long c;
+        private final Object d;
+        private final FinalPoint e;
+
+        ManyFields(int a, String b, long c, Object d, FinalPoint e) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+            this.e = e;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof ManyFields other
+                    && a == other.a
+                    && Objects.equals(b, other.b)
+                    && c == other.c
+                    && Objects.equals(d, other.d)
+                    && Objects.equals(e, other.e);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d, e);
+        }
+    }
+
+    static final class StaticFields {
+
+        private static final String CONSTANT = "constant";
+        private static int counter = 0;
+        private final int a;
+        private final String b;
+
+        StaticFields(int a, String b) {
+            this.a = a;
+            this.b = b;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof StaticFields other && a == other.a && Objects.equals(b, other.b);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b);
+        }
+
+        @Override
+        public String toString() {
+            return CONSTANT + counter;
+        }
+    }
+
+    static final class MissingFields {
+
+        private final int a;
+        private final int b;
+        private final int c;
+        private final int d;
+
+        MissingFields(int a, int b, int c, int d) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.d = d;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof MissingFields other && a == other.a;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c, d);
+        }
+    }
+
+    static final class NullableFields {
+
+        private final String a;
+        private final String b;
+        private final String c;
+
+        NullableFields(String a, String b, String c) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof NullableFields other
+                    && a.equals(other.a)
+                    && b.equals(other.b)
+                    && c.equals(other.c);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(a, b, c);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package nl.jqno.equalsverifier.integration.extra_features;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Objects;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Mode;
+import nl.jqno.equalsverifier_testhelpers.ExpectedException;
+import nl.jqno.equalsverifier_testhelpers.annotations.javax.persistence.Id;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class PersistentCacheTest {
+
+    @TempDir
+    private Path cacheDirectory;
+
+    @Test
+    void succeed_whenAnnotationsAreReadFromAWarmCache() throws IOException {
+        EqualsVerifier.forClass(BusinessKeyPerson.class).set(Mode.persistentCache(cacheDirectory)).verify();
+        assertThat(entries()).isEqualTo(1);
+
+        EqualsVerifier.forClass(BusinessKeyPerson.class).set(Mode.persistentCache(cacheDirectory)).verify();
+        assertThat(entries()).isEqualTo(1);
+    }
+
+    @Test
+    void fail_whenIgnoredAnnotationsDifferFromTheCachedEntry() throws IOException {
+        EqualsVerifier.forClass(BusinessKeyPerson.class).set(Mode.persistentCache(cacheDirectory)).verify();
+
+        ExpectedException
+                .when(
+                    () -> EqualsVerifier
+                            .forClass(BusinessKeyPerson.class)
+                            .set(Mode.persistentCache(cacheDirectory))
+                            .withIgnoredAnnotations(Id.class)
+                            .verify())
+                .assertFailure()
+                .assertMessageContains("Significant fields", "equals does not use id");
+        assertThat(entries()).isEqualTo(2);
+    }
+
+    @Test
+    void succeed_whenCacheDirectoryDoesNotExistYet() {
+        var directory = cacheDirectory.resolve("does").resolve("not").resolve("exist");
+        EqualsVerifier.forClass(BusinessKeyPerson.class).set(Mode.persistentCache(directory)).verify();
+
+        assertThat(directory).isDirectory();
+    }
+
+    @Test
+    void succeed_whenCacheDirectoryCannotBeCreated() throws IOException {
+        var file = Files.createFile(cacheDirectory.resolve("file"));
+        EqualsVerifier.forClass(BusinessKeyPerson.class).set(Mode.persistentCache(file)).verify();
+    }
+
+    @Test
+    void fail_whenDirectoryIsNull() {
+        ExpectedException
+                .when(() -> Mode.persistentCache(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("persistent cache directory is null");
+    }
+
+    private long entries() throws IOException {
+        try (var files = Files.list(cacheDirectory)) {
+            return files.filter(p -> p.toString().endsWith(".bin")).count();
+        }
+    }
+
+    static class BusinessKeyPerson {
+
+        @Id
+        private final int id;
+
+        private final String name;
+
+        BusinessKeyPerson(int id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public final boolean equals(Object obj) {
+            return obj instanceof BusinessKeyPerson other && Objects.equals(name, other.name);
+        }
+
+        @Override
+        public final int hashCode() {
+            return Objects.hash(name);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package nl.jqno.equalsverifier.integration.extra_features.classretention;
+
+@Immutable
+public final class ImmutableWithClassRetention {
+
+    private int i;
+
+    public ImmutableWithClassRetention(int i) {
+        this.i = i;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ImmutableWithClassRetention other && i == other.i;
+    }
+
+    @Override
+    public int hashCode() {
+        return i;
+    }
+}
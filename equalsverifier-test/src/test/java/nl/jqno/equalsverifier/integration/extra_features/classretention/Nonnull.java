@@ -0,0 +1,10 @@
+package nl.jqno.equalsverifier.integration.extra_features.classretention;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.FIELD, ElementType.TYPE })
+public @interface Nonnull {}
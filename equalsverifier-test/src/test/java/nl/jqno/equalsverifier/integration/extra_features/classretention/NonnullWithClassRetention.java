@@ -0,0 +1,21 @@
+package nl.jqno.equalsverifier.integration.extra_features.classretention;
+
+public final class NonnullWithClassRetention {
+
+    @Nonnull
+    private final String s;
+
+    public NonnullWithClassRetention(String s) {
+        this.s = s;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof NonnullWithClassRetention other && s.equals(other.s);
+    }
+
+    @Override
+    public int hashCode() {
+        return s.hashCode();
+    }
+}
@@ -1,5 +1,12 @@
 package nl.jqno.equalsverifier.integration.operational;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import nl.jqno.equalsverifier.api.ConfiguredEqualsVerifier;
@@ -172,4 +179,73 @@ class ConfiguredEqualsVerifierSingleTest {
                 .suppress(Warning.STRICT_INHERITANCE)
                 .verify();
     }
+
+    @Test
+    void succeed_whenConfiguredEqualsVerifierIsSharedAcrossThreads() {
+        ConfiguredEqualsVerifier ev = EqualsVerifier
+                .configure()
+                .withPrefabValues(
+                    RecursiveType.class,
+                    new RecursiveType(null),
+                    new RecursiveType(new RecursiveType(null)));
+
+        List<CompletableFuture<Boolean>> futures = IntStream
+                .range(0, 50)
+                .mapToObj(i -> CompletableFuture
+                        .supplyAsync(() -> ev.forClass(RecursiveTypeContainer.class).report().isSuccessful()))
+                .toList();
+
+        assertThat(futures).allSatisfy(f -> assertThat(f.join()).isTrue());
+    }
+
+    @Test
+    void prefabValuesAddedLaterAreUsed_whenConfiguredEqualsVerifierWasUsedBefore() {
+        ConfiguredEqualsVerifier ev = EqualsVerifier.configure();
+        ev.forClass(MagicContainer.class).verify();
+
+        ev.withPrefabValues(Magic.class, new Magic("magic"), new Magic("other"));
+        ExpectedException
+                .when(() -> ev.forClass(MagicContainer.class).verify())
+                .assertFailure()
+                .assertMessageContains("IllegalStateException");
+    }
+
+    static final class Magic {
+        private final String value;
+
+        Magic(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Magic other && Objects.equals(value, other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(value);
+        }
+    }
+
+    static final class MagicContainer {
+        private final Magic magic;
+
+        MagicContainer(Magic magic) {
+            this.magic = magic;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (magic != null && "magic".equals(magic.value)) {
+                throw new IllegalStateException("magic found");
+            }
+            return obj instanceof MagicContainer other && Objects.equals(magic, other.magic);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(magic);
+        }
+    }
 }
@@ -2,8 +2,11 @@ package nl.jqno.equalsverifier.integration.operational;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.EqualsVerifierReport;
@@ -70,6 +73,51 @@ class MultipleTypeEqualsVerifierTest {
         EqualsVerifier.forPackage(SUBCLASSES_PACKAGE, ScanOption.mustExtend(SuperI.class)).verify();
     }
 
+    @Test
+    void verifyEachClassExactlyOnce_whenVerifyingAllShardsOfAPackage() {
+        int count = 3;
+        List<Class<?>> verified = new ArrayList<>();
+        for (int index = 0; index < count; index++) {
+            EqualsVerifier
+                    .forPackage(INCORRECT_PACKAGE, ScanOption.recursive(), ScanOption.shard(index, count))
+                    .report()
+                    .forEach(r -> verified.add(r.getType()));
+        }
+
+        List<Class<?>> all = EqualsVerifier
+                .forPackage(INCORRECT_PACKAGE, ScanOption.recursive())
+                .report()
+                .stream()
+                .<Class<?>>map(EqualsVerifierReport::getType)
+                .toList();
+        assertThat(verified).containsExactlyInAnyOrderElementsOf(all);
+    }
+
+    @Test
+    void succeed_whenVerifyingAShardThatIsEmpty() {
+        List<EqualsVerifierReport> reports = new ArrayList<>();
+        for (int index = 0; index < 10; index++) {
+            reports.addAll(EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.shard(index, 10)).report());
+        }
+        assertThat(reports).hasSize(3);
+    }
+
+    @Test
+    void fail_whenShardCountIsZero() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.shard(0, 0)).verify())
+                .assertThrows(IllegalStateException.class)
+                .assertMessageContains("Precondition", "shard count must be at least 1");
+    }
+
+    @Test
+    void fail_whenShardIndexIsOutOfRange() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.shard(3, 3)).verify())
+                .assertThrows(IllegalStateException.class)
+                .assertMessageContains("Precondition", "shard index must be between 0 and 2");
+    }
+
     @Test
     void fail_whenVerifyingAThirdPartyPackage_becauseTheyDontPassEqualsVerifier() {
         ExpectedException
@@ -330,6 +378,69 @@ class MultipleTypeEqualsVerifierTest {
         assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
     }
 
+    @Test
+    void succeed_whenVerifyingACorrectPackageRecursively_givenInParallel() {
+        EqualsVerifier.forPackage(CORRECT_PACKAGE, ScanOption.recursive()).inParallel().verify();
+    }
+
+    @Test
+    void fail_whenVerifyingAPackageRecursivelyWithFourIncorrectClasses_givenInParallel() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forPackage(INCORRECT_PACKAGE, ScanOption.recursive()).inParallel().verify())
+                .assertFailure()
+                .assertMessageContains(
+                    "EqualsVerifier found a problem in 4 classes.",
+                    "* " + INCORRECT_M,
+                    "* " + INCORRECT_N,
+                    "* " + INCORRECT_O,
+                    "* " + INCORRECT_P,
+                    "Subclass: equals is not final.",
+                    "Reflexivity: object does not equal itself:");
+    }
+
+    @Test
+    void reportsInTheSameOrder_whenReportingOnSeveralClasses_givenInParallel() {
+        List<EqualsVerifierReport> sequential =
+                EqualsVerifier.forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class).report();
+        List<EqualsVerifierReport> parallel =
+                EqualsVerifier.forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class).inParallel().report();
+
+        assertThat(parallel)
+                .extracting(EqualsVerifierReport::getType)
+                .containsExactly(A.class, IncorrectM.class, C.class, IncorrectN.class);
+        assertThat(parallel)
+                .extracting(EqualsVerifierReport::getMessage)
+                .containsExactlyElementsOf(sequential.stream().map(EqualsVerifierReport::getMessage).toList());
+    }
+
+    @Test
+    void fail_whenReportingOnTwoIncorrectClasses_givenAnExecutor() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            List<EqualsVerifierReport> reports = EqualsVerifier
+                    .forClasses(A.class, IncorrectM.class, C.class, IncorrectN.class)
+                    .withExecutor(executor)
+                    .report();
+
+            assertThat(reports).hasSize(4);
+            assertSuccessful(reports.get(0), A.class);
+            assertSuccessful(reports.get(2), C.class);
+            assertUnsuccessful(reports.get(1), IncorrectM.class, "Subclass: equals is not final.");
+            assertUnsuccessful(reports.get(3), IncorrectN.class, "Reflexivity: object does not equal itself:");
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void fail_whenExecutorIsNull() {
+        ExpectedException
+                .when(() -> EqualsVerifier.forClasses(A.class, B.class).withExecutor(null))
+                .assertThrows(NullPointerException.class)
+                .assertMessageContains("Precondition:", "executor is null");
+    }
+
     private void assertSuccessful(EqualsVerifierReport report, Class<?> type) {
         assertThat(report.isSuccessful()).isTrue();
         assertThat(report.getType()).isEqualTo(type);